@@ -0,0 +1,118 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 기존 컨트롤러 집계(TreeSet + 날짜별 contains) vs 한 번 순회 집계 (출석 이력 1/3/10년)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AttendanceAnalyticsBenchmark {
+
+    @Param({ "1", "3", "10" })
+    public int years;
+
+    // 하루 출석 확률 (높을수록 긴 연속/개근 달이 많음)
+    @Param({ "0.8" })
+    public double density;
+
+    private LocalDate today;
+    private List<LocalDate> rows;
+    private AttendanceBitmap bitmap;
+    private int[] epochDays;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        today = LocalDate.of(2025, 9, 30);
+        rows = new ArrayList<>();
+        for (LocalDate d = today.minusYears(years).plusDays(1); !d.isAfter(today); d = d.plusDays(1)) {
+            if (random.nextDouble() < density) {
+                rows.add(d);
+            }
+        }
+        bitmap = AttendanceBitmap.of(rows);
+        epochDays = bitmap.toEpochDays();
+    }
+
+    // 조회한 행 → TreeSet 적재까지 포함 (기존 /status 와 같은 순서)
+    @Benchmark
+    public void legacyController(Blackhole bh) {
+        Set<LocalDate> loginDays = new TreeSet<>(rows);
+        legacyStatus(loginDays, today, bh);
+    }
+
+    @Benchmark
+    public AttendanceAnalytics.Result analyticsFromDays() {
+        return AttendanceAnalytics.analyze(epochDays, today);
+    }
+
+    // 캐시된 비트맵에서 배열을 꺼내는 비용까지 포함
+    @Benchmark
+    public AttendanceAnalytics.Result analyticsFromBitmap() {
+        return AttendanceAnalytics.analyze(bitmap, today);
+    }
+
+    private static void legacyStatus(Set<LocalDate> loginDays, LocalDate today, Blackhole bh) {
+        LocalDate firstDate = loginDays.iterator().next();
+        int totalDays = loginDays.size();
+
+        int currentStreak = 0;
+        LocalDate d = today;
+        if (!loginDays.contains(d)) d = d.minusDays(1);
+        while (loginDays.contains(d)) {
+            currentStreak++;
+            d = d.minusDays(1);
+        }
+
+        YearMonth ymNow = YearMonth.from(today);
+        int monthDays = (int) loginDays.stream().filter(x -> YearMonth.from(x).equals(ymNow)).count();
+
+        int monthStreak = 0;
+        LocalDate end = loginDays.contains(today) ? today : today.minusDays(1);
+        LocalDate m = ymNow.atDay(1);
+        while (!m.isAfter(end)) {
+            if (!loginDays.contains(m)) break;
+            monthStreak++;
+            m = m.plusDays(1);
+        }
+
+        int coins = (totalDays / 2) + ((totalDays / 30) * 30);
+        YearMonth iter = YearMonth.from(firstDate);
+        while (!iter.isAfter(ymNow)) {
+            if (isMonthPerfect(loginDays, iter)) coins += 15;
+            iter = iter.plusMonths(1);
+        }
+
+        bh.consume(currentStreak);
+        bh.consume(monthDays);
+        bh.consume(monthStreak);
+        bh.consume(coins);
+    }
+
+    private static boolean isMonthPerfect(Set<LocalDate> loginDays, YearMonth ym) {
+        LocalDate d = ym.atDay(1);
+        int len = ym.lengthOfMonth();
+        for (int i = 0; i < len; i++) {
+            if (!loginDays.contains(d)) return false;
+            d = d.plusDays(1);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.health_care.dto.FoodDTO;
+
+// 기존 비교자 정렬 vs 점수 선계산 + top-K 힙 (후보 50/500/5000 개)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FoodRankingBenchmark {
+
+    private static final String[] WORDS = { "빼빼로", "크런키", "초코", "아몬드", "김밥", "참치", "치즈", "라면", "우유", "딸기" };
+
+    @Param({ "50", "500", "5000" })
+    public int candidates;
+
+    @Param({ "10" })
+    public int perPage;
+
+    private final String query = "크런키 빼빼로";
+    private final FoodRanker ranker = FoodRanker.defaults(0);
+    private List<FoodDTO> list;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        list = new ArrayList<>(candidates);
+        for (int i = 0; i < candidates; i++) {
+            StringBuilder name = new StringBuilder();
+            int parts = 1 + random.nextInt(3);
+            for (int j = 0; j < parts; j++) {
+                name.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            name.append(' ').append(i);
+            list.add(FoodDTO.builder()
+                    .foodNm(name.toString())
+                    .enerc(random.nextInt(4) == 0 ? null : (double) random.nextInt(800))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<FoodDTO> ranker() {
+        return ranker.topK(list, query, perPage);
+    }
+
+    @Benchmark
+    public List<FoodDTO> legacyComparator() {
+        String[] originalWords = query.toLowerCase().split("\\s+");
+        return list.stream()
+                .sorted((a, b) -> {
+                    String aName = a.getFoodNm().toLowerCase();
+                    String bName = b.getFoodNm().toLowerCase();
+                    long aMatches = Arrays.stream(originalWords).filter(aName::contains).count();
+                    long bMatches = Arrays.stream(originalWords).filter(bName::contains).count();
+                    if (aMatches != bMatches) {
+                        return Long.compare(bMatches, aMatches);
+                    }
+                    int aHas = a.getEnerc() != null ? 1 : 0;
+                    int bHas = b.getEnerc() != null ? 1 : 0;
+                    if (aHas != bHas) {
+                        return Integer.compare(bHas, aHas);
+                    }
+                    return Integer.compare(aName.length(), bName.length());
+                })
+                .limit(perPage)
+                .collect(Collectors.toList());
+    }
+}
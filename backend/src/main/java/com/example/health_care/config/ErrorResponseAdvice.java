@@ -0,0 +1,41 @@
+package com.example.health_care.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.example.health_care.security.ErrorResponses;
+import com.example.health_care.security.PasswordHashingBusyException;
+
+// @Valid 실패/깨진 JSON → 미리 만든 400 본문 ("필드: 메시지" 조합별로 한 번만 인코딩)
+// 비밀번호 해시 풀 포화 → 503 + Retry-After (로그인/가입/비밀번호 재설정 공통)
+@RestControllerAdvice
+public class ErrorResponseAdvice {
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<byte[]> handleInvalid(MethodArgumentNotValidException e) {
+        FieldError field = e.getBindingResult().getFieldError();
+        if (field == null) {
+            return ErrorResponses.VALIDATION_FAILED.entity();
+        }
+        return ErrorResponses.VALIDATION_FAILED.entity(field.getField() + ": " + field.getDefaultMessage());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleUnreadable(HttpMessageNotReadableException e) {
+        return ErrorResponses.VALIDATION_FAILED.entity();
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<byte[]> handleHashingBusy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(ErrorResponses.BUSY.status())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponses.BUSY.body(e.getMessage()));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.health_care.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 비동기 작업용 스레드 풀 설정 (initialize/shutdown 은 빈 생명주기에서 Spring 이 호출)
+@Configuration
+public class ExecutorConfig {
+
+    // 식품 검색 키워드 병렬 호출용 (크기/대기열 제한, 가득 차면 즉시 거절)
+    @Bean(name = "foodSearchExecutor")
+    public ThreadPoolTaskExecutor foodSearchExecutor(
+            @Value("${nutri.search.pool-size:8}") int poolSize,
+            @Value("${nutri.search.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("food-search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 비밀번호 해시(BCrypt) 전용 (CPU 사용량을 풀 크기로 제한, 가득 차면 즉시 거절)
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password.pool-size:0}") int poolSize,
+            @Value("${auth.password.queue-capacity:32}") int queueCapacity) {
+        int size = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -7,31 +7,39 @@ import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 // 공공데이터 식품영양성분정보 API 클라이언트
 @Component
 public class FoodClient {
 
     private final RestTemplate restTemplate;
+    private final NutriCircuitBreaker breaker;
     private final String baseUrl;
     private final String endpoint;
     private final String encKey;
     private final String decKey;
-    private volatile String workingKey;
-    private volatile boolean workingIsEncoded;
+    // 키와 인코딩 여부를 한 번에 교체해 병렬 호출 중에도 짝이 어긋나지 않게 함
+    private record WorkingKey(String key, boolean encoded) {}
+    private volatile WorkingKey working;
 
     public FoodClient(
             RestTemplate restTemplate,
+            NutriCircuitBreaker breaker,
             @Value("${nutri.base-url}") String baseUrl,
             @Value("${nutri.endpoint}") String endpoint,
             @Value("${nutri.service-key-encoding:}") String encKey,
             @Value("${nutri.service-key-decoding:}") String decKey) {
 
         this.restTemplate = restTemplate;
+        this.breaker = breaker;
         this.baseUrl = safe(baseUrl);
         this.endpoint = safe(endpoint);
         this.encKey  = safe(encKey);
@@ -46,28 +54,56 @@ public class FoodClient {
         return s == null ? "" : s.trim(); 
     }
 
+    // 응답 본문을 스트림에서 바로 읽는 변환기 (본문 전체를 String 으로 만들지 않기 위함)
+    @FunctionalInterface
+    public interface BodyReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private static final BodyReader<String> STRING_READER =
+            in -> new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
     // 식품명으로 영양성분 정보 검색  
     public String searchByName(String name, int page, int perPage) {
+        return searchByName(name, page, perPage, STRING_READER);
+    }
+
+    // 식품명으로 검색하고 응답 스트림을 reader 로 바로 변환
+    public <T> T searchByName(String name, int page, int perPage, BodyReader<T> reader) {
         String q = name == null ? "" : name.trim();
         int pageNo = Math.max(1, page);
         int rows   = Math.min(Math.max(1, perPage), 50);
+        return callWithKeyFallback(q, pageNo, rows, reader);
+    }
+
+    // 검색어 없이 전체 데이터셋을 페이지 단위로 조회 (로컬 DB 적재용)
+    public <T> T fetchPage(int page, int rows, BodyReader<T> reader) {
+        int pageNo = Math.max(1, page);
+        int size   = Math.min(Math.max(1, rows), 1000);
+        return callWithKeyFallback("", pageNo, size, reader);
+    }
 
-        if (workingKey == null) detectWorkingKey(q);
+    // 키 감지/재시도를 포함한 한 번의 논리적 호출을 서킷 브레이커 + 벌크헤드 안에서 실행
+    private <T> T callWithKeyFallback(String q, int pageNo, int rows, BodyReader<T> reader) {
+        return breaker.execute(() -> callWithKeyFallbackUnguarded(q, pageNo, rows, reader));
+    }
+
+    private <T> T callWithKeyFallbackUnguarded(String q, int pageNo, int rows, BodyReader<T> reader) {
+        WorkingKey current = working;
+        if (current == null) current = detectWorkingKey(q);
 
         try {
-            return callOnce(q, pageNo, rows, workingKey, workingIsEncoded);
+            return callOnce(q, pageNo, rows, current.key(), current.encoded(), reader);
         } catch (RuntimeException ex) {
             // 첫 시도 실패 시 반대 키로 재시도
-            if (workingIsEncoded && !decKey.isBlank()) {
-                String body = callOnce(q, pageNo, rows, decKey, false);
-                workingKey = decKey;
-                workingIsEncoded = false;
+            if (current.encoded() && !decKey.isBlank()) {
+                T body = callOnce(q, pageNo, rows, decKey, false, reader);
+                working = new WorkingKey(decKey, false);
                 return body;
             }
-            if (!workingIsEncoded && !encKey.isBlank()) {
-                String body = callOnce(q, pageNo, rows, encKey, true);
-                workingKey = encKey;
-                workingIsEncoded = true;
+            if (!current.encoded() && !encKey.isBlank()) {
+                T body = callOnce(q, pageNo, rows, encKey, true, reader);
+                working = new WorkingKey(encKey, true);
                 return body;
             }
             throw ex;
@@ -75,53 +111,40 @@ public class FoodClient {
     }
 
     // 사용 가능한 서비스키 자동 감지
-    private void detectWorkingKey(String sampleQuery) {
+    private WorkingKey detectWorkingKey(String sampleQuery) {
         String probe = (sampleQuery == null || sampleQuery.isBlank()) ? "김밥" : sampleQuery;
 
         if (!decKey.isBlank()) {
             try {
-                callOnce(probe, 1, 1, decKey, false);
-                workingKey = decKey;
-                workingIsEncoded = false;
-                return;
+                callOnce(probe, 1, 1, decKey, false, STRING_READER);
+                return working = new WorkingKey(decKey, false);
             } catch (RuntimeException ignore) {}
         }
         if (!encKey.isBlank()) {
-            callOnce(probe, 1, 1, encKey, true);
-            workingKey = encKey;
-            workingIsEncoded = true;
-            return;
+            callOnce(probe, 1, 1, encKey, true, STRING_READER);
+            return working = new WorkingKey(encKey, true);
         }
         throw new RuntimeException("공공데이터 API 키 확인 실패");
     }
 
     // 공공데이터 API 실제 호출
-    private String callOnce(String q, int pageNo, int rows, String key, boolean keyIsEncoded) {
+    private <T> T callOnce(String q, int pageNo, int rows, String key, boolean keyIsEncoded, BodyReader<T> reader) {
+        URI uri = null;
         try {
             String encodedFoodNm = q == null ? "" : URLEncoder.encode(q, StandardCharsets.UTF_8);
             String serviceKey = keyIsEncoded ? key : URLEncoder.encode(key, StandardCharsets.UTF_8);
 
             String fullUrl = joinUrl(baseUrl, endpoint);
-            URI uri = UriComponentsBuilder.fromHttpUrl(fullUrl)
+            uri = UriComponentsBuilder.fromHttpUrl(fullUrl)
                     .queryParam("serviceKey", serviceKey)
                     .queryParam("type", "json")
                     .queryParam("pageNo", pageNo)
                     .queryParam("numOfRows", rows)
-                    .queryParam("foodNm", encodedFoodNm)
+                    .queryParamIfPresent("foodNm", Optional.of(encodedFoodNm).filter(s -> !s.isEmpty()))
                     .build(true)
                     .toUri();
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setAcceptCharset(List.of(StandardCharsets.UTF_8));
-            headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
-
-            String body = response.getBody();
-            if (body != null && body.trim().startsWith("{")) return body;
-
-            throw new RuntimeException("공공데이터 API 응답이 JSON이 아닙니다: " + abbreviate(body, 400));
+            return execute(uri, reader);
 
         } catch (RestClientResponseException e) {
             String bodyHead = e.getResponseBodyAsString();
@@ -141,10 +164,10 @@ public class FoodClient {
             String message = e.getMessage();
             if (message != null && message.contains("www.api.data.go.kr")) {
                 try {
-                    String retryUrl = (baseUrl + endpoint).replace("www.api.data.go.kr", "api.data.go.kr");
-                    ResponseEntity<String> retryResp = restTemplate.exchange(
-                            URI.create(retryUrl), HttpMethod.GET, new HttpEntity<>(new HttpHeaders()), String.class);
-                    return retryResp.getBody();
+                    String retryUrl = uri != null
+                            ? uri.toString().replace("www.api.data.go.kr", "api.data.go.kr")
+                            : (baseUrl + endpoint).replace("www.api.data.go.kr", "api.data.go.kr");
+                    return execute(URI.create(retryUrl), reader);
                 } catch (Exception retryEx) {
                     throw new RuntimeException("공공데이터 API 재시도 실패: " + retryEx.getMessage(), retryEx);
                 }
@@ -153,6 +176,31 @@ public class FoodClient {
         }
     }
 
+    // GET 요청 후 응답 스트림을 reader 에 넘김 (JSON 객체로 시작하지 않으면 앞부분을 담아 예외)
+    private <T> T execute(URI uri, BodyReader<T> reader) {
+        return restTemplate.execute(uri, HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setAcceptCharset(List.of(StandardCharsets.UTF_8));
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                response -> reader.read(requireJsonObject(response.getBody())));
+    }
+
+    private static InputStream requireJsonObject(InputStream body) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(body);
+        in.mark(512);
+        int c;
+        int skipped = 0;
+        do {
+            c = in.read();
+        } while (c != -1 && Character.isWhitespace(c) && ++skipped < 256);
+        in.reset();
+        if (c == '{') return in;
+
+        String head = new String(in.readNBytes(400), StandardCharsets.UTF_8);
+        throw new IllegalStateException("공공데이터 API 응답이 JSON이 아닙니다: " + abbreviate(head, 400));
+    }
+
     private static String joinUrl(String base, String path) {
         if (base.endsWith("/") && path.startsWith("/")) return base.substring(0, base.length()-1) + path;
         if (!base.endsWith("/") && !path.startsWith("/")) return base + "/" + path;
@@ -170,15 +218,16 @@ public class FoodClient {
 
     public RawProbe debugPing(String q) {
         try {
-            String body = callOnce(q == null ? "" : q.trim(), 1, 1, ensureWorkingKey(), workingIsEncoded);
+            WorkingKey current = ensureWorkingKey();
+            String body = callOnce(q == null ? "" : q.trim(), 1, 1, current.key(), current.encoded(), STRING_READER);
             return new RawProbe(200, baseUrl + endpoint, "application/json", abbreviate(body, 400));
         } catch (Exception e) {
             return new RawProbe(500, baseUrl + endpoint, "error", e.getMessage());
         }
     }
 
-    private String ensureWorkingKey() {
-        if (workingKey == null) detectWorkingKey("김밥");
-        return workingKey;
+    private WorkingKey ensureWorkingKey() {
+        WorkingKey current = working;
+        return current != null ? current : detectWorkingKey("김밥");
     }
 }
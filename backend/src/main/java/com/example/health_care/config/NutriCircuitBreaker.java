@@ -0,0 +1,207 @@
+package com.example.health_care.config;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공공데이터 API 서킷 브레이커 + 벌크헤드
+ *
+ * - 최근 window-size 건 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN → 일정 시간 즉시 거절
+ * - 대기 시간이 지나면 HALF_OPEN 에서 시험 호출 몇 건만 통과시키고, 결과에 따라 CLOSED/OPEN 결정
+ * - 동시에 진행 중인 호출 수를 세마포어로 제한해 느린 상류가 요청 스레드를 모두 붙잡지 못하게 함
+ */
+@Slf4j
+@Component
+public class NutriCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    private final Semaphore bulkhead;
+    private final long bulkheadWaitMs;
+
+    // 최근 호출 결과 링 버퍼 (this 락으로 보호)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private int slows;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenDone;
+    private int halfOpenBad;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public NutriCircuitBreaker(
+            MeterRegistry registry,
+            @Value("${nutri.breaker.window-size:20}") int windowSize,
+            @Value("${nutri.breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${nutri.breaker.failure-rate:50}") double failureRatePercent,
+            @Value("${nutri.breaker.slow-call-rate:50}") double slowCallRatePercent,
+            @Value("${nutri.breaker.slow-call-ms:3000}") long slowCallMs,
+            @Value("${nutri.breaker.open-seconds:30}") long openSeconds,
+            @Value("${nutri.breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${nutri.bulkhead.max-concurrent:10}") int maxConcurrent,
+            @Value("${nutri.bulkhead.max-wait-ms:0}") long bulkheadWaitMs) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRatePercent / 100.0;
+        this.slowCallRateThreshold = slowCallRatePercent / 100.0;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.bulkhead = new Semaphore(Math.max(1, maxConcurrent));
+        this.bulkheadWaitMs = Math.max(0, bulkheadWaitMs);
+        this.failed = new boolean[this.windowSize];
+        this.slow = new boolean[this.windowSize];
+
+        Gauge.builder("nutri.breaker.state", this, b -> b.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN").register(registry);
+        Gauge.builder("nutri.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("남은 동시 호출 허용 수").register(registry);
+        FunctionCounter.builder("nutri.breaker.rejected", rejected, LongAdder::sum)
+                .description("서킷 오픈/벌크헤드 포화로 거절된 호출 수").register(registry);
+    }
+
+    // 서킷/벌크헤드를 통과한 경우에만 call 실행, 결과를 통계에 기록
+    public <T> T execute(Supplier<T> call) {
+        acquirePermission();
+        boolean acquired;
+        try {
+            acquired = bulkheadWaitMs == 0
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            releaseHalfOpenPermit();
+            rejected.increment();
+            throw new NutriUnavailableException("공공데이터 API 동시 호출 한도 초과");
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            onResult(false, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            onResult(true, System.nanoTime() - start);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejected.increment();
+                throw new NutriUnavailableException("공공데이터 API 서킷 오픈 상태");
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                rejected.increment();
+                throw new NutriUnavailableException("공공데이터 API 서킷 시험 호출 진행 중");
+            }
+            halfOpenPermits++;
+        }
+    }
+
+    private synchronized void releaseHalfOpenPermit() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    private synchronized void onResult(boolean failure, long elapsedNanos) {
+        boolean isSlow = elapsedNanos >= slowCallNanos;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenDone++;
+            if (failure || isSlow) {
+                halfOpenBad++;
+            }
+            if (halfOpenDone >= halfOpenCalls) {
+                double badRate = (double) halfOpenBad / halfOpenDone;
+                transitionTo(badRate >= Math.min(failureRateThreshold, slowCallRateThreshold)
+                        ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 오픈 직전에 출발한 호출 결과는 무시
+            return;
+        }
+
+        // CLOSED: 링 버퍼 갱신
+        if (recorded == windowSize) {
+            if (failed[next]) failures--;
+            if (slow[next]) slows--;
+        } else {
+            recorded++;
+        }
+        failed[next] = failure;
+        slow[next] = isSlow;
+        if (failure) failures++;
+        if (isSlow) slows++;
+        next = (next + 1) % windowSize;
+
+        if (recorded >= minimumCalls) {
+            double failureRate = (double) failures / recorded;
+            double slowRate = (double) slows / recorded;
+            if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+                log.warn("[NUTRI] circuit OPEN (failureRate={}, slowRate={})", failureRate, slowRate);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void transitionTo(State to) {
+        state = to;
+        halfOpenPermits = 0;
+        halfOpenDone = 0;
+        halfOpenBad = 0;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (to == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+            slows = 0;
+            Arrays.fill(failed, false);
+            Arrays.fill(slow, false);
+        }
+        log.info("[NUTRI] circuit → {}", to);
+    }
+}
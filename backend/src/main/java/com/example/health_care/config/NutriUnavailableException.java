@@ -0,0 +1,9 @@
+package com.example.health_care.config;
+
+// 공공데이터 API 호출이 차단된 경우 (서킷 오픈 또는 동시 호출 한도 초과)
+public class NutriUnavailableException extends RuntimeException {
+
+    public NutriUnavailableException(String message) {
+        super(message);
+    }
+}
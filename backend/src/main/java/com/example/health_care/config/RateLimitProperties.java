@@ -0,0 +1,48 @@
+package com.example.health_care.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 공개 엔드포인트 요청 제한 설정 (application.yml 의 rate-limit)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 이 시간 동안 쓰이지 않은 버킷은 정리
+    private long idleEvictSeconds = 600;
+    // 버킷 수 상한 (정리 후에도 가득 차면 새 IP 는 거절, 계정 단위 제한은 건너뜀)
+    private int maxBuckets = 100_000;
+    // 프록시 뒤에서만 true (X-Forwarded-For 첫 번째 주소를 클라이언트 IP 로 사용)
+    private boolean trustForwardedFor = false;
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        // 비어 있으면 모든 메서드
+        private String method;
+        private String pattern;
+        private Limit ip;
+        private Limit account;
+        // 계정 단위 제한에 쓸 JSON 본문 필드
+        private String accountField = "id";
+    }
+
+    // 토큰 버킷: 최대 capacity 개, 분당 perMinute 개씩 충전
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private int perMinute;
+    }
+}
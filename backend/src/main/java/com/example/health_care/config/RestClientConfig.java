@@ -1,19 +1,118 @@
 package com.example.health_care.config;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-// HTTP 클라이언트 설정
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+// HTTP 클라이언트 설정 (공공데이터 API 호출용 커넥션 풀 + keep-alive + gzip)
 @Configuration
 public class RestClientConfig {
-    
+
+    // 커넥션 풀 (활성/대기 연결 수와 임대 대기 시간을 메트릭으로 노출)
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager nutriConnectionManager(
+            MeterRegistry registry,
+            @Value("${nutri.http.max-total:50}") int maxTotal,
+            @Value("${nutri.http.max-per-route:20}") int maxPerRoute,
+            @Value("${nutri.http.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${nutri.http.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${nutri.http.time-to-live-seconds:300}") long timeToLiveSeconds) {
+
+        Timer leaseTimer = Timer.builder("nutri.http.pool.lease")
+                .description("커넥션 풀에서 연결을 얻기까지 대기한 시간")
+                .register(registry);
+
+        PoolingHttpClientConnectionManager cm = new InstrumentedConnectionManager(leaseTimer);
+        cm.setMaxTotal(maxTotal);
+        cm.setDefaultMaxPerRoute(maxPerRoute);
+        cm.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))   // 5초 연결 타임아웃
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))       // 10초 읽기 타임아웃
+                .setTimeToLive(TimeValue.ofSeconds(timeToLiveSeconds))         // 오래된 연결은 재생성
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(cm, "nutri").bindTo(registry);
+        return cm;
+    }
+
+    // keep-alive 재사용 + gzip/deflate 응답 자동 해제 (HttpClient 기본 ContentCompressionExec)
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient nutriHttpClient(
+            PoolingHttpClientConnectionManager nutriConnectionManager,
+            @Value("${nutri.http.lease-timeout-ms:2000}") long leaseTimeoutMs,
+            @Value("${nutri.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        return HttpClients.custom()
+                .setConnectionManager(nutriConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(leaseTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    // RestTemplateBuilder 로 생성해야 요청 지연 시간(http.client.requests) 메트릭이 자동으로 붙음
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);  // 5초 연결 타임아웃
-        factory.setReadTimeout(10000);    // 10초 읽기 타임아웃
-        return new RestTemplate(factory);
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient nutriHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(nutriHttpClient))
+                .build();
+    }
+
+    // 연결 임대(lease) 대기 시간을 측정하는 커넥션 매니저
+    static class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer leaseTimer;
+
+        InstrumentedConnectionManager(Timer leaseTimer) {
+            this.leaseTimer = leaseTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        leaseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
     }
 }
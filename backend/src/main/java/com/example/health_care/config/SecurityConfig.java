@@ -1,18 +1,25 @@
 package com.example.health_care.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.example.health_care.security.BoundedPasswordEncoder;
+import com.example.health_care.security.JwtAuthenticationEntryPoint;
 import com.example.health_care.security.JwtAuthenticationFilter;
+import com.example.health_care.security.RateLimitFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 import lombok.RequiredArgsConstructor;
 
@@ -41,21 +48,30 @@ public class SecurityConfig {
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http,
-                        JwtAuthenticationFilter jwtAuthenticationFilter) throws Exception {
+                        JwtAuthenticationFilter jwtAuthenticationFilter,
+                        RateLimitFilter rateLimitFilter,
+                        JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) throws Exception {
                 http
                                 // corsConfig 빈에서 가져온 설정을 직접 사용
                                 .cors(cors -> cors.configurationSource(corsConfig.corsConfigurationSource()))
                                 .csrf(csrf -> csrf.disable())
                                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                                // 공개 엔드포인트 요청 제한은 인증보다 먼저 (거절 시 DB/암호 연산 없음)
+                                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+                                // 인증 없음/만료 토큰 → 401 (클라이언트가 재발급 토큰으로 갱신)
+                                .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                                 .authorizeHttpRequests(auth -> auth
                                                 .requestMatchers(SWAGGER_WHITELIST).permitAll()
                                                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                                                // 공공데이터 전체 재적재는 관리자만 (auth.admin-ids)
+                                                .requestMatchers(HttpMethod.POST, "/api/food/import").hasRole("ADMIN")
+                                                // 출석 기록(쓰기)은 공개 목록(/api/attendance/**)보다 먼저 → 로그인 필수
+                                                .requestMatchers(HttpMethod.POST, "/api/attendance/checkin", "/api/attendance/sync").authenticated()
                                                 .requestMatchers(PUBLIC_WHITELIST).permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/ranking").permitAll()
                                                 .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/signup")
                                                 .permitAll()
-                                                .requestMatchers(HttpMethod.POST, "/api/attendance/checkin").authenticated()
                                                 .requestMatchers(HttpMethod.GET,  "/api/attendance/**").authenticated()
                                                 .requestMatchers("/api/auth/logout", "/body", "/api/profile")
                                                 .authenticated() // 로그아웃, 바디프로필, 프로필 추가
@@ -68,9 +84,17 @@ public class SecurityConfig {
                 return http.build();
         }
 
+        // BCrypt 비용은 기동 시 목표 시간에 맞춰 측정, 해시 작업은 전용 풀에서만 실행
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public PasswordEncoder passwordEncoder(
+                        @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                        MeterRegistry registry,
+                        @Value("${auth.password.target-ms:100}") long targetMs,
+                        @Value("${auth.password.min-cost:10}") int minCost,
+                        @Value("${auth.password.max-cost:14}") int maxCost,
+                        @Value("${auth.password.wait-timeout-ms:5000}") long waitTimeoutMs) {
+                int cost = BoundedPasswordEncoder.calibrate(targetMs, minCost, maxCost);
+                return new BoundedPasswordEncoder(cost, passwordHashExecutor, waitTimeoutMs, registry);
         }
 
         @Bean
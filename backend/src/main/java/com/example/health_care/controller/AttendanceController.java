@@ -1,77 +1,43 @@
 // backend/src/main/java/com/example/health_care/controller/AttendanceController.java — 최종본
 package com.example.health_care.controller;
 
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.sql.Date;
 import java.time.*;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import com.example.health_care.security.CustomerPrincipal;
+import com.example.health_care.security.ErrorResponses;
+import com.example.health_care.service.AttendanceLeaderboard;
+import com.example.health_care.service.AttendanceService;
+import com.example.health_care.service.AttendanceStore;
+import com.example.health_care.service.CustomerIdentityResolver;
+
 @RestController
 @RequestMapping("/api/attendance")
 public class AttendanceController {
 
-    private final JdbcTemplate jdbc;
-
-    public AttendanceController(JdbcTemplate jdbc) {
-        this.jdbc = jdbc;
+    private final CustomerIdentityResolver identity;
+    private final AttendanceStore attendance;
+    private final AttendanceService attendanceService;
+    private final AttendanceLeaderboard leaderboard;
+
+    public AttendanceController(CustomerIdentityResolver identity, AttendanceStore attendance,
+                                AttendanceService attendanceService, AttendanceLeaderboard leaderboard) {
+        this.identity = identity;
+        this.attendance = attendance;
+        this.attendanceService = attendanceService;
+        this.leaderboard = leaderboard;
     }
 
+    // id → idx 는 공용 캐시에서 (요청마다 customers 조회하지 않음)
     private Long findCustomerIdByEmail(String email) {
-        if (email == null || email.isBlank()) return null;
-        try {
-            return jdbc.queryForObject(
-                    "SELECT idx FROM customers WHERE id = ?",
-                    Long.class, email
-            );
-        } catch (EmptyResultDataAccessException e) {
-            return null;
-        }
-    }
-
-    /** 가입 시점(첫 body 기록일) */
-    private LocalDate loadAccountCreated(LocalDate fallbackToday, Long customerId) {
-        if (customerId == null) return fallbackToday;
-        Date d = jdbc.queryForObject(
-                "SELECT MIN(record_date) FROM body WHERE customer_id = ?",
-                Date.class, customerId
-        );
-        return d != null ? d.toLocalDate() : fallbackToday;
-    }
-
-    private Set<LocalDate> loadLoginDates(Long customerId) {
-        if (customerId == null) return Collections.emptySet();
-        List<Date> rows = jdbc.query(
-                "SELECT record_date FROM attendance_log WHERE customer_id = ?",
-                (rs, i) -> rs.getDate(1),
-                customerId
-        );
-        return rows.stream().map(Date::toLocalDate).collect(Collectors.toCollection(TreeSet::new));
-    }
-
-    private int computeCalendarStreak(Set<LocalDate> loginDays, LocalDate today) {
-        if (loginDays.isEmpty()) return 0;
-        int streak = 0;
-        LocalDate d = today;
-        if (!loginDays.contains(d)) d = d.minusDays(1);
-        while (loginDays.contains(d)) {
-            streak++;
-            d = d.minusDays(1);
-        }
-        return streak;
-    }
-
-    private boolean isMonthPerfect(Set<LocalDate> loginDays, YearMonth ym) {
-        LocalDate d = ym.atDay(1);
-        int len = ym.lengthOfMonth();
-        for (int i = 0; i < len; i++) {
-            if (!loginDays.contains(d)) return false;
-            d = d.plusDays(1);
-        }
-        return true;
+        return identity.idxOf(email);
     }
 
     /** 최초 로그인일 (출석 없으면 가입일로 fallback) */
@@ -82,12 +48,8 @@ public class AttendanceController {
         LocalDate first = today;
 
         if (customerId != null) {
-            Date d = jdbc.queryForObject(
-                    "SELECT MIN(record_date) FROM attendance_log WHERE customer_id = ?",
-                    Date.class, customerId
-            );
-            if (d != null) first = d.toLocalDate();
-            else first = loadAccountCreated(today, customerId);
+            LocalDate d = attendance.get(customerId).first();
+            first = d != null ? d : attendanceService.accountCreated(today, customerId);
         }
         return Map.of("firstDate", first.toString());
     }
@@ -97,56 +59,7 @@ public class AttendanceController {
     public Map<String, Object> status(@RequestParam(name = "email", required = false) String email) {
         final Long customerId = findCustomerIdByEmail(email);
         final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
-        final Set<LocalDate> loginDays = loadLoginDates(customerId);
-
-        final LocalDate fallbackCreated = loadAccountCreated(today, customerId);
-        final LocalDate firstDate = loginDays.isEmpty() ? fallbackCreated : loginDays.iterator().next();
-        final LocalDate lastDate  = loginDays.isEmpty() ? fallbackCreated : loginDays.stream().reduce((a,b)->b).orElse(fallbackCreated);
-
-        final int totalDays = loginDays.size();
-        final int currentStreak = computeCalendarStreak(loginDays, today);
-
-        final YearMonth ymNow = YearMonth.from(today);
-        final int monthDays = (int) loginDays.stream().filter(d -> YearMonth.from(d).equals(ymNow)).count();
-
-        int monthStreak = 0;
-        if (!loginDays.isEmpty()) {
-            LocalDate end = loginDays.contains(today) ? today : today.minusDays(1);
-            LocalDate d = ymNow.atDay(1);
-            while (!d.isAfter(end)) {
-                if (!loginDays.contains(d)) break;
-                monthStreak++;
-                d = d.plusDays(1);
-            }
-        }
-
-        int coins = (totalDays / 2) + ((totalDays / 30) * 30);
-        YearMonth iter = YearMonth.from(firstDate);
-        while (!iter.isAfter(ymNow)) {
-            if (isMonthPerfect(loginDays, iter)) coins += 15;
-            iter = iter.plusMonths(1);
-        }
-
-        int todayCoins = 0;
-        if (loginDays.contains(today)) {
-            if (totalDays % 2 == 0) todayCoins += 1;
-            if (totalDays % 30 == 0) todayCoins += 30;
-            if (isMonthPerfect(loginDays, ymNow) && today.getDayOfMonth() == ymNow.lengthOfMonth()) {
-                todayCoins += 15;
-            }
-        }
-
-        Map<String, Object> out = new HashMap<>();
-        out.put("firstDate", firstDate.toString());
-        out.put("lastDate",  lastDate.toString());
-        out.put("totalDays", totalDays);
-        out.put("currentStreak", currentStreak);
-        out.put("monthKey", ymNow.toString());
-        out.put("monthStreak", monthStreak);
-        out.put("monthDays", monthDays);
-        out.put("coins", coins);
-        out.put("todayCoins", todayCoins);
-        return out;
+        return attendanceService.status(customerId, today);
     }
 
     /** 월별 로그인 이력(yyyy-MM → dates:[yyyy-mm-dd]) */
@@ -156,14 +69,9 @@ public class AttendanceController {
         final Long customerId = findCustomerIdByEmail(email);
         if (customerId == null) return Map.of("dates", List.of());
         YearMonth ym = YearMonth.parse(month);
-        LocalDate s = ym.atDay(1);
-        LocalDate e = ym.atEndOfMonth();
-        List<Date> rows = jdbc.query(
-                "SELECT record_date FROM attendance_log WHERE customer_id = ? AND record_date BETWEEN ? AND ? ORDER BY record_date",
-                (rs, i) -> rs.getDate(1),
-                customerId, Date.valueOf(s), Date.valueOf(e)
-        );
-        List<String> out = rows.stream().map(d -> d.toLocalDate().toString()).collect(Collectors.toList());
+        List<String> out = attendance.get(customerId).datesBetween(ym.atDay(1), ym.atEndOfMonth()).stream()
+                .map(LocalDate::toString)
+                .collect(Collectors.toList());
         return Map.of("dates", out);
     }
 
@@ -181,32 +89,98 @@ public class AttendanceController {
         return Map.of("days", days);
     }
 
-    /** 오늘(또는 지정일) 체크인: upsert + 상태 반환 (KST) */
+    /**
+     * 오늘(또는 지정일) 체크인: upsert + 상태 반환 (KST)
+     * 대상 고객은 로그인 사용자만 (email 은 받지 않음), date 는 sync 와 같은 기준 (오늘 이전 max-days 일 이내)
+     */
     @PostMapping("/checkin")
-    public Map<String, Object> checkin(@RequestParam(name = "email", required = false) String email,
-                                       @RequestBody(required = false) Map<String,Object> body) {
-        final Long customerId = findCustomerIdByEmail(
-                email != null ? email : body != null ? String.valueOf(body.getOrDefault("email","")) : null
-        );
-        if (customerId == null) return Map.of("message", "unknown_user");
-
-        final ZoneId KST = ZoneId.of("Asia/Seoul");
-        String dateStr = body != null ? String.valueOf(body.getOrDefault("date","")) : "";
-        LocalDate day = (dateStr != null && dateStr.matches("\\d{4}-\\d{2}-\\d{2}"))
-                ? LocalDate.parse(dateStr)
-                : LocalDate.now(KST);
-
-        jdbc.update(
-            "MERGE INTO attendance_log t " +
-            "USING (SELECT ? AS customer_id, ? AS record_date FROM dual) s " +
-            "ON (t.customer_id = s.customer_id AND t.record_date = s.record_date) " +
-            "WHEN NOT MATCHED THEN INSERT (customer_id, record_date) VALUES (s.customer_id, s.record_date)",
-            ps -> {
-                ps.setLong(1, customerId);
-                ps.setDate(2, Date.valueOf(day));
+    public ResponseEntity<?> checkin(@AuthenticationPrincipal UserDetails user,
+                                     @RequestBody(required = false) Map<String,Object> body) {
+        if (user == null) return ErrorResponses.UNAUTHORIZED.entity();
+        final Long customerId = customerOf(user);
+        if (customerId == null) return ResponseEntity.ok(Map.of("message", "unknown_user"));
+
+        final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        Object raw = body != null ? body.get("date") : null;
+        LocalDate day = today;
+        if (raw != null && !String.valueOf(raw).isBlank()) {
+            day = parseDay(raw);
+            if (day == null) {
+                return ErrorResponses.VALIDATION_FAILED.entity("date: yyyy-MM-dd 형식이어야 합니다.");
+            }
+            if (!inWindow(day, today)) {
+                return ErrorResponses.VALIDATION_FAILED.entity("date: 오늘부터 최근 " + attendanceService.syncMaxDays() + "일 이내만 가능합니다.");
+            }
+        }
+
+        // MERGE + 출석 집계 갱신은 한 트랜잭션, 커밋 후 캐시 비트맵 반영
+        if (attendanceService.checkin(customerId, day)) {
+            attendance.markAttended(customerId, day);
+            leaderboard.update(customerId, attendance.get(customerId));
+        }
+
+        return ResponseEntity.ok(attendanceService.status(customerId, today));
+    }
+
+    /**
+     * 오프라인 동안 쌓인 출석 일괄 반영: { dates:[yyyy-mm-dd, ...] } → 한 트랜잭션 batch MERGE + 상태 한 번
+     * 대상 고객은 로그인 사용자만 (email 파라미터는 받지 않음), 날짜는 오늘(KST) 이전 max-days 일 이내만
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<?> sync(@AuthenticationPrincipal UserDetails user,
+                                  @RequestBody Map<String,Object> body) {
+        if (user == null) return ErrorResponses.UNAUTHORIZED.entity();
+        final Long customerId = customerOf(user);
+        if (customerId == null) return ResponseEntity.ok(Map.of("message", "unknown_user"));
+
+        if (!(body.get("dates") instanceof List<?> raw)) {
+            return ErrorResponses.VALIDATION_FAILED.entity("dates: 날짜 목록이 필요합니다.");
+        }
+        if (raw.size() > attendanceService.syncMaxDays()) {
+            return ErrorResponses.VALIDATION_FAILED.entity("dates: 최대 " + attendanceService.syncMaxDays() + "개까지 가능합니다.");
+        }
+        final LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        List<LocalDate> days = new ArrayList<>(raw.size());
+        for (Object o : raw) {
+            LocalDate d = parseDay(o);
+            if (d == null) {
+                return ErrorResponses.VALIDATION_FAILED.entity("dates: yyyy-MM-dd 형식이어야 합니다.");
             }
-        );
+            if (!inWindow(d, today)) {
+                return ErrorResponses.VALIDATION_FAILED.entity("dates: 오늘부터 최근 " + attendanceService.syncMaxDays() + "일 이내만 가능합니다.");
+            }
+            days.add(d);
+        }
+
+        List<LocalDate> applied = attendanceService.sync(customerId, days);
+        attendance.markAttended(customerId, applied);
+        leaderboard.update(customerId, attendance.get(customerId));
+
+        Map<String, Object> out = new HashMap<>(attendanceService.status(customerId, today));
+        out.put("synced", applied.size());
+        return ResponseEntity.ok(out);
+    }
+
+    // 로그인 사용자의 고객 번호 (claims 의 idx 우선, 없으면 id 로 조회)
+    private Long customerOf(UserDetails user) {
+        return user instanceof CustomerPrincipal p && p.getIdx() != null
+                ? p.getIdx()
+                : findCustomerIdByEmail(user.getUsername());
+    }
+
+    // yyyy-MM-dd 가 아니거나 없는 날짜(2025-02-30 등)면 null
+    private static LocalDate parseDay(Object raw) {
+        String s = String.valueOf(raw);
+        if (!s.matches("\\d{4}-\\d{2}-\\d{2}")) return null;
+        try {
+            return LocalDate.parse(s);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 
-        return status(email);
+    // 미래 날짜와 max-days 일보다 오래된 날짜는 받지 않음 (랭킹/코인 부풀리기 방지)
+    private boolean inWindow(LocalDate d, LocalDate today) {
+        return !d.isAfter(today) && !d.isBefore(today.minusDays(attendanceService.syncMaxDays()));
     }
 }
@@ -2,8 +2,9 @@ package com.example.health_care.controller;
 
 import java.net.URI;
 import java.time.LocalDateTime;
-import java.util.Map; // >>> [ADDED] 401 응답 JSON 생성을 위해
+import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,6 +13,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -21,11 +23,14 @@ import org.springframework.util.StringUtils;
 import com.example.health_care.dto.LoginRequest;
 import com.example.health_care.dto.LoginResponse;
 import com.example.health_care.dto.LogoutResponse;
+import com.example.health_care.dto.RefreshRequest;
 import com.example.health_care.dto.SignupRequest;
 import com.example.health_care.dto.SignupResponse;
 import com.example.health_care.entity.CustomersEntity;
+import com.example.health_care.security.ErrorResponses;
 import com.example.health_care.security.JwtTokenProvider;
 import com.example.health_care.service.CustomersService;
+import com.example.health_care.service.RefreshTokenService;
 import com.example.health_care.service.TokenBlacklistService;
 
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,6 +50,11 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenService refreshTokenService;
+
+    // true: 로그아웃한 접근 토큰도 블랙리스트에 기록 (기본은 재발급 토큰 폐기만)
+    @Value("${jwt.revocation.check-access-tokens:false}")
+    private boolean checkAccessTokens;
 
     @PostMapping("/signup")
     public ResponseEntity<SignupResponse> signup(@Valid @RequestBody SignupRequest request) {
@@ -69,28 +79,36 @@ public class AuthController {
                             request.getId(),
                             request.getPassword()));
 
-            // JWT 토큰 생성
-            String token = jwtTokenProvider.createToken(authentication);
-
             // 사용자 정보 조회 -> Principal만 가져오기
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
 
-            LoginResponse response = LoginResponse.builder()
-                    .token(token)
-                    .tokenType("Bearer")
-                    .id(userDetails.getUsername())
-                    .build();
-
-            return ResponseEntity.ok(response);
+            // 짧은 접근 토큰 + 재발급 토큰 발급
+            return ResponseEntity.ok(tokenResponse(userDetails,
+                    refreshTokenService.issue(userDetails.getUsername())));
 
         } catch (BadCredentialsException e) {
-            // >>> [ADDED] 로그인 실패 시 401 + 명확한 메시지(JSON) 반환
-            return ResponseEntity.status(401).body(
-                Map.of(
-                    "error", "invalid_credentials",
-                    "message", "아이디 또는 비밀번호가 올바르지 않습니다."
-                )
-            );
+            // >>> [ADDED] 로그인 실패 시 401 + 명확한 메시지(JSON) 반환 (미리 만든 본문)
+            return ErrorResponses.INVALID_CREDENTIALS.entity();
+        }
+    }
+
+    // 재발급 토큰으로 새 접근 토큰 + 새 재발급 토큰 발급 (이전 재발급 토큰은 교체되어 다시 쓸 수 없음)
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody RefreshRequest request) {
+        String refreshToken = request == null ? null : request.getRefreshToken();
+        Optional<RefreshTokenService.Issued> issued = StringUtils.hasText(refreshToken)
+                ? refreshTokenService.rotate(refreshToken.trim())
+                : Optional.empty();
+        if (issued.isEmpty()) {
+            return invalidRefreshToken();
+        }
+        try {
+            // 권한/고객 번호는 재발급 때마다 DB 기준으로 다시 담음
+            UserDetails userDetails = customersService.loadUserByUsername(issued.get().userId());
+            return ResponseEntity.ok(tokenResponse(userDetails, issued.get()));
+        } catch (UsernameNotFoundException e) {
+            refreshTokenService.revoke(issued.get().token());
+            return invalidRefreshToken();
         }
     }
 
@@ -98,7 +116,15 @@ public class AuthController {
     public ResponseEntity<LogoutResponse> logout(
             @Parameter(in = ParameterIn.HEADER, name = HttpHeaders.AUTHORIZATION, description = "Bearer <JWT>", required = false) @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
             @AuthenticationPrincipal UserDetails user,
+            @RequestBody(required = false) RefreshRequest body,
             HttpServletRequest request) {
+        // 재발급 토큰 폐기 (접근 토큰이 이미 만료됐어도 로그아웃 가능)
+        boolean revokedRefresh = false;
+        if (body != null && StringUtils.hasText(body.getRefreshToken())) {
+            refreshTokenService.revoke(body.getRefreshToken().trim());
+            revokedRefresh = true;
+        }
+
         // 전역 Authorize가 안 붙거나 프록시에서 빠질 수 있어 추가 확인
         if (!StringUtils.hasText(authorization)) {
             authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
@@ -113,6 +139,9 @@ public class AuthController {
         }
 
         if (!StringUtils.hasText(token)) {
+            if (revokedRefresh) {
+                return ResponseEntity.ok(LogoutResponse.builder().message("Logged out").build());
+            }
             return ResponseEntity.badRequest()
                     .body(LogoutResponse.builder()
                             .message("Missing Authorization header (expected: Bearer <token>)")
@@ -120,15 +149,37 @@ public class AuthController {
         }
 
         // 토큰에서 사용자/만료시각 추출 (메서드명은 현재 구현과 동일 사용)
-        String userId = (user != null) ? user.getUsername() : jwtTokenProvider.getUsernameFromToken(token);
+        String userId = (user != null) ? user.getUsername() : jwtTokenProvider.getUsername(token);
         LocalDateTime exp = jwtTokenProvider.getExpiry(token);
 
         if (!StringUtils.hasText(userId) || exp == null) {
+            if (revokedRefresh) {
+                return ResponseEntity.ok(LogoutResponse.builder().message("Logged out").build());
+            }
             return ResponseEntity.badRequest()
                     .body(LogoutResponse.builder().message("Invalid token").build());
         }
 
-        tokenBlacklistService.blacklist(token, userId, exp, "USER_LOGOUT");
+        // 접근 토큰은 수명이 짧아 기본적으로 기록하지 않음 (만료까지 남은 몇 분은 허용)
+        // 배포 전 발급된 긴 수명 토큰은 항상 기록
+        if (checkAccessTokens || jwtTokenProvider.isLegacyToken(jwtTokenProvider.getVerifiedClaims(token))) {
+            tokenBlacklistService.blacklist(token, userId, exp, "USER_LOGOUT");
+        }
+        jwtTokenProvider.forget(token);
         return ResponseEntity.ok(LogoutResponse.builder().message("Logged out").build());
     }
+
+    private LoginResponse tokenResponse(UserDetails userDetails, RefreshTokenService.Issued refresh) {
+        return LoginResponse.builder()
+                .token(jwtTokenProvider.createToken(userDetails))
+                .tokenType("Bearer")
+                .id(userDetails.getUsername())
+                .refreshToken(refresh.token())
+                .expiresIn(jwtTokenProvider.getAccessTokenTtlMillis() / 1000)
+                .build();
+    }
+
+    private static ResponseEntity<byte[]> invalidRefreshToken() {
+        return ErrorResponses.INVALID_REFRESH_TOKEN.entity();
+    }
 }
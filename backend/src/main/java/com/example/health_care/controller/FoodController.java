@@ -1,19 +1,27 @@
 package com.example.health_care.controller;
 
 import java.util.List;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import com.example.health_care.dto.FoodDTO;
+import com.example.health_care.service.FoodAutocomplete;
+import com.example.health_care.service.FoodImportService;
 import com.example.health_care.service.FoodService;
 
 @RestController
 public class FoodController {
 
     private final FoodService service;
+    private final FoodImportService importService;
+    private final FoodAutocomplete autocomplete;
 
-    public FoodController(FoodService service) {
+    public FoodController(FoodService service, FoodImportService importService, FoodAutocomplete autocomplete) {
         this.service = service;
+        this.importService = importService;
+        this.autocomplete = autocomplete;
     }
 
     @GetMapping(value = "/api/food/public/search", produces = "application/json")
@@ -23,4 +31,26 @@ public class FoodController {
             @RequestParam(value = "perPage", defaultValue = "10") int perPage) {
         return service.searchSimple(name, page, perPage);
     }
+
+    // 입력 중인 식품명 자동완성 (메모리 트라이만 조회, 원격 호출 없음)
+    @GetMapping(value = "/api/food/public/autocomplete", produces = "application/json")
+    public List<FoodDTO> autocomplete(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return autocomplete.complete(prefix, limit);
+    }
+
+    // 공공데이터 전체 영양성분 → 로컬 DB 적재 시작 (관리자만, 백그라운드 실행)
+    @PostMapping(value = "/api/food/import", produces = "application/json")
+    public ResponseEntity<FoodImportService.ImportStatus> startImport(
+            @RequestParam(value = "restart", defaultValue = "false") boolean restart) {
+        boolean started = importService.startAsync(restart);
+        return ResponseEntity.status(started ? 202 : 409).body(importService.status());
+    }
+
+    // 적재 진행 상황 조회
+    @GetMapping(value = "/api/food/import/status", produces = "application/json")
+    public FoodImportService.ImportStatus importStatus() {
+        return importService.status();
+    }
 }
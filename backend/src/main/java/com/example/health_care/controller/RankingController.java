@@ -1,11 +1,17 @@
 package com.example.health_care.controller;
 
+import com.example.health_care.dto.AttendanceRankingDTO;
 import com.example.health_care.dto.CustomersProfileDTO;
+import com.example.health_care.security.CustomerPrincipal;
+import com.example.health_care.service.CustomerIdentityResolver;
 import com.example.health_care.service.RankingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.List;
 
@@ -15,10 +21,28 @@ import java.util.List;
 public class RankingController {
 
     private final RankingService rankingService;
+    private final CustomerIdentityResolver identity;
 
     @GetMapping
     public ResponseEntity<List<CustomersProfileDTO>> getAllCustomersProfile() {
         List<CustomersProfileDTO> customers = rankingService.getAllCustomersProfile();
         return ResponseEntity.ok(customers);
     }
+
+    // 연속 출석(by=streak) / 코인(by=coins) 랭킹, 메모리 순위표에서 바로 응답
+    @GetMapping("/attendance")
+    public ResponseEntity<AttendanceRankingDTO> getAttendanceRanking(
+            @RequestParam(name = "by", defaultValue = "streak") String by,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            @RequestParam(name = "around", defaultValue = "2") int around,
+            @RequestParam(name = "email", required = false) String email,
+            @AuthenticationPrincipal UserDetails user) {
+        Long me = null;
+        if (user instanceof CustomerPrincipal p && p.getIdx() != null) {
+            me = p.getIdx();
+        } else if (email != null || user != null) {
+            me = identity.idxOf(email != null ? email : user.getUsername());
+        }
+        return ResponseEntity.ok(rankingService.getAttendanceRanking(by, limit, around, me));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.example.health_care.controller;
 
 import com.example.health_care.dto.RecoveryDTO.*;
 import com.example.health_care.entity.RecoveryQuestionCode;
+import com.example.health_care.security.ErrorResponses;
 import com.example.health_care.service.RecoveryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -50,7 +51,7 @@ public class RecoveryController {
             List<RecoveryQuestionCode> two = service.pickTwo(req.getId());
             return ResponseEntity.ok(new RecoverStartResponse(req.getId(), two));
         } catch (IllegalStateException e) {
-            return ResponseEntity.badRequest().body(Map.of("message", "보안 질문이 설정되지 않았습니다."));
+            return ErrorResponses.RECOVERY_NOT_SET.entity();
         }
     }
 
@@ -60,7 +61,7 @@ public class RecoveryController {
         Map<RecoveryQuestionCode, String> map = req.getAnswers().stream()
                 .collect(Collectors.toMap(RecoverVerifyRequest.Ans::getCode, RecoverVerifyRequest.Ans::getAnswer));
         boolean ok = service.verifyAnswers(req.getId(), map);
-        if (!ok) return ResponseEntity.badRequest().body(Map.of("message", "답이 올바르지 않습니다."));
+        if (!ok) return ErrorResponses.RECOVERY_WRONG_ANSWERS.entity();
         String token = service.createRecoveryToken(req.getId());
         return ResponseEntity.ok(RecoverVerifyResponse.builder().recoveryToken(token).build());
     }
@@ -69,7 +70,7 @@ public class RecoveryController {
     @PostMapping("/recover/reset")
     public ResponseEntity<?> reset(@Valid @RequestBody ResetPasswordRequest req) {
         boolean changed = service.resetPasswordWithToken(req.getRecoveryToken(), req.getNewPassword());
-        if (!changed) return ResponseEntity.badRequest().body(Map.of("message", "토큰이 유효하지 않거나 만료되었습니다."));
+        if (!changed) return ErrorResponses.RECOVERY_INVALID_TOKEN.entity();
         return ResponseEntity.ok(Map.of("message", "비밀번호가 변경되었습니다."));
     }
-}
\ No newline at end of file
+}
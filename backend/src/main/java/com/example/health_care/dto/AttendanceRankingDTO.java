@@ -0,0 +1,29 @@
+package com.example.health_care.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceRankingDTO {
+    private String by;          // streak | coins
+    private Integer total;      // 랭킹에 올라 있는 고객 수
+    private List<Entry> top;
+    private Entry me;           // 로그인 사용자 (출석 기록 없으면 null)
+    private List<Entry> around; // 내 위아래 몇 명 (나 포함)
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Entry {
+        private Integer rank;
+        private String id;
+        private Integer score;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.health_care.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,4 +14,7 @@ import lombok.NoArgsConstructor;
 public class FoodDTO {
     private String foodNm;   // 음식명
     private Double enerc;    // 열량(kcal)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;   // 공공데이터 장애로 마지막 정상 결과를 대신 반환한 경우 true
 }
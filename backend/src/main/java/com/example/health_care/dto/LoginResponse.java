@@ -13,4 +13,6 @@ public class LoginResponse {
     private String token;
     private String tokenType;
     private String id;
+    private String refreshToken; // 접근 토큰 만료 시 /api/auth/refresh 로 재발급
+    private Long expiresIn;      // 접근 토큰 유효 시간(초)
 }
\ No newline at end of file
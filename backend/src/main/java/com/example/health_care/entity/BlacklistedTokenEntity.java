@@ -11,7 +11,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "blacklisted_tokens")
+@Table(name = "blacklisted_tokens", indexes = @Index(name = "idx_blk_tok_expires", columnList = "expires_at"))
 @SequenceGenerator(name = "blk_tok_seq_gen", sequenceName = "BLK_TOK_SEQ", allocationSize = 1)
 public class BlacklistedTokenEntity {
 
@@ -20,8 +20,9 @@ public class BlacklistedTokenEntity {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "token", length = 1024, nullable = false, unique = true)
-    private String token;
+    // 토큰 원문 대신 SHA-256 hex (64자 고정)
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
 
     @Column(name = "user_id", length = 100, nullable = false)
     private String userId;
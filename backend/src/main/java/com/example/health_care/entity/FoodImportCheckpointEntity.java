@@ -0,0 +1,47 @@
+package com.example.health_care.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 공공데이터 영양성분 일괄 적재 진행 상황
+ * 페이지 단위로 커밋되며, 중단 후 재실행하면 next_page부터 이어서 적재합니다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "food_import_checkpoint")
+public class FoodImportCheckpointEntity {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "next_page", nullable = false)
+    private Integer nextPage;
+
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    @Column(name = "imported_rows", nullable = false)
+    private Long importedRows;
+
+    // RUNNING / DONE / FAILED
+    @Column(name = "status", length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,44 @@
+package com.example.health_care.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 재발급(refresh) 토큰: 원문 대신 SHA-256 hex 만 보관, 같은 로그인에서 이어진 토큰은 family_id 로 묶음
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_rft_family", columnList = "family_id"),
+        @Index(name = "idx_rft_expires", columnList = "expires_at") })
+@SequenceGenerator(name = "refresh_tok_seq_gen", sequenceName = "REFRESH_TOK_SEQ", allocationSize = 1)
+public class RefreshTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tok_seq_gen")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    @Column(name = "user_id", length = 100, nullable = false)
+    private String userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 이미 새 토큰으로 교체됨 → 다시 쓰이면 탈취로 보고 family 전체 폐기
+    @Column(name = "rotated", nullable = false)
+    private boolean rotated;
+}
@@ -1,17 +1,25 @@
 package com.example.health_care.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.health_care.entity.BlacklistedTokenEntity;
 
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTokenEntity, Long> {
-    boolean existsByToken(String token);
+    boolean existsByTokenHash(String tokenHash);
 
-    @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("delete from BlacklistedTokenEntity b where b.expiresAt < :now")
-    int deleteAllExpired(LocalDateTime now);
+    List<BlacklistedTokenEntity> findByExpiresAtAfter(LocalDateTime now);
+
+    // 마지막으로 본 id 이후에 생긴 폐기 행 (다른 서버의 로그아웃 반영용, PK 범위 조회)
+    List<BlacklistedTokenEntity> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 만료 행을 최대 limit 건만 삭제 (긴 락을 피하기 위해 나눠서 호출)
+    @Modifying
+    @Query(value = "DELETE FROM blacklisted_tokens WHERE expires_at < :now AND ROWNUM <= :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
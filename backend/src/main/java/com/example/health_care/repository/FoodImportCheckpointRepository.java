@@ -0,0 +1,8 @@
+package com.example.health_care.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.health_care.entity.FoodImportCheckpointEntity;
+
+public interface FoodImportCheckpointRepository extends JpaRepository<FoodImportCheckpointEntity, String> {
+}
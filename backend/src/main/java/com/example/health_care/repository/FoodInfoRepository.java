@@ -1,7 +1,9 @@
 package com.example.health_care.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.example.health_care.entity.FoodInfoEntity;
@@ -12,4 +14,7 @@ public interface FoodInfoRepository extends JpaRepository<FoodInfoEntity, String
 
     boolean existsByFoodNameIgnoreCase(String foodName);
 
+    // 이름에 키워드가 포함된 식품 (로컬 우선 검색용)
+    List<FoodInfoEntity> findByFoodNameContaining(String keyword, Pageable pageable);
+
 }
\ No newline at end of file
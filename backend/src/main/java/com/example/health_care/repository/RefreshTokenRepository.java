@@ -0,0 +1,34 @@
+package com.example.health_care.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.health_care.entity.RefreshTokenEntity;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    // 아직 교체되지 않은 행만 교체 표시 (동시에 같은 토큰으로 재발급하면 한 쪽만 1 을 받음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update RefreshTokenEntity r set r.rotated = true where r.id = :id and r.rotated = false")
+    int markRotated(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshTokenEntity r where r.familyId = :familyId")
+    int deleteFamily(@Param("familyId") String familyId);
+
+    // 재사용 감지에 필요한 직전 토큰만 남기고 더 오래된 교체 토큰은 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from RefreshTokenEntity r where r.familyId = :familyId and r.rotated = true")
+    int deleteRotatedInFamily(@Param("familyId") String familyId);
+
+    // 만료 행을 최대 limit 건만 삭제 (긴 락을 피하기 위해 나눠서 호출)
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now AND ROWNUM <= :limit", nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
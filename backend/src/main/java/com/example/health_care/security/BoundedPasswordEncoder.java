@@ -0,0 +1,138 @@
+package com.example.health_care.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BCrypt 해시/검증을 전용 풀에서만 실행하는 PasswordEncoder
+ *
+ * - 로그인이 몰려도 동시에 BCrypt 를 돌리는 스레드 수는 풀 크기로 제한
+ * - 대기열까지 가득 차면 기다리지 않고 PasswordHashingBusyException
+ * - 비용(cost)은 기동 시 목표 시간에 맞춰 측정해서 정하고,
+ *   저장된 해시의 비용이 다르면 upgradeEncoding 이 true → 로그인 성공 시 재해시됨
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long waitTimeoutMs;
+    private final int strength;
+
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedPasswordEncoder(int strength, ThreadPoolTaskExecutor executor, long waitTimeoutMs,
+            MeterRegistry registry) {
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.executor = executor;
+        this.waitTimeoutMs = Math.max(1, waitTimeoutMs);
+
+        Gauge.builder("auth.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수").register(registry);
+        Gauge.builder("auth.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수").register(registry);
+        FunctionCounter.builder("auth.hash.rejected", rejected, LongAdder::sum)
+                .description("풀 포화로 거절한 해시 작업 수").register(registry);
+        Gauge.builder("auth.hash.cost", this, BoundedPasswordEncoder::getStrength)
+                .description("현재 BCrypt 비용").register(registry);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 비용이 현재 비용보다 낮을 때만 재해시 (높은 비용은 낮추지 않음 → 서버마다 비용이 달라도 왕복하지 않음)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer stored = costOf(encodedPassword);
+        return stored != null && stored < strength;
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("로그인 처리가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // "$2a$10$..." → 10
+    private static Integer costOf(String encoded) {
+        if (encoded == null || encoded.length() < 7 || encoded.charAt(0) != '$' || encoded.charAt(3) != '$') {
+            return null;
+        }
+        try {
+            return Integer.parseInt(encoded.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 이 서버에서 해시 1회가 targetMs 를 넘지 않는 가장 높은 비용 (minCost~maxCost)
+     * 비용이 1 오를 때마다 시간이 두 배가 되므로 minCost 에서만 측정하고 나머지는 계산
+     */
+    public static int calibrate(long targetMs, int minCost, int maxCost) {
+        int min = Math.max(4, Math.min(minCost, 31));
+        int max = Math.max(min, Math.min(maxCost, 31));
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(min);
+        probe.encode("calibration-warmup");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration-" + i);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        double ms = best / 1_000_000.0;
+        int cost = min;
+        while (cost < max && ms * 2 <= targetMs) {
+            ms *= 2;
+            cost++;
+        }
+        log.info("[AUTH] BCrypt cost {} (~{} ms per hash, target {} ms)", cost, Math.round(ms), targetMs);
+        return cost;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.health_care.security;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import lombok.Getter;
+
+// 로그인 사용자 정보 + 고객 번호(customers.idx)
+// 토큰 claims 로 만든 경우 password 는 빈 문자열입니다.
+@Getter
+public class CustomerPrincipal extends User {
+
+    private final Long idx;
+
+    public CustomerPrincipal(String username, String password, Collection<? extends GrantedAuthority> authorities,
+            Long idx) {
+        super(username, password, authorities);
+        this.idx = idx;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.health_care.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 자주 나가는 오류 응답 본문을 UTF-8 바이트로 미리 만들어 둔 템플릿
+ *
+ * - 고정 본문은 같은 배열을 그대로 씀 (ObjectMapper/Map 생성 없음)
+ * - 메시지가 바뀌는 경우는 메시지별로 한 번만 인코딩해 캐시 (종류가 정해진 메시지만 들어옴)
+ * - 401 시각(timestamp)은 스레드별 버퍼에 숫자만 채워 바로 출력 스트림에 씀
+ * 로그인 실패/만료 토큰이 몰려도 오류 경로에서 객체 생성과 직렬화가 거의 없습니다.
+ */
+public final class ErrorResponses {
+
+    public static final Template UNAUTHORIZED = new Template(401, "Unauthorized", "You need to login first");
+    public static final Template INVALID_CREDENTIALS = new Template(401, "invalid_credentials",
+            "아이디 또는 비밀번호가 올바르지 않습니다.");
+    public static final Template INVALID_REFRESH_TOKEN = new Template(401, "invalid_refresh_token",
+            "다시 로그인해 주세요.");
+    public static final Template TOO_MANY_REQUESTS = new Template(429, "too_many_requests",
+            "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+    public static final Template VALIDATION_FAILED = new Template(400, "validation_failed",
+            "입력값이 올바르지 않습니다.");
+    public static final Template BUSY = new Template(503, "busy", "잠시 후 다시 시도해 주세요.");
+
+    // 비밀번호 복구
+    public static final Template RECOVERY_NOT_SET = new Template(400, "questions_not_set",
+            "보안 질문이 설정되지 않았습니다.");
+    public static final Template RECOVERY_WRONG_ANSWERS = new Template(400, "wrong_answers",
+            "답이 올바르지 않습니다.");
+    public static final Template RECOVERY_INVALID_TOKEN = new Template(400, "invalid_recovery_token",
+            "토큰이 유효하지 않거나 만료되었습니다.");
+
+    // 메시지별 캐시 상한 (넘으면 캐시 없이 매번 인코딩)
+    private static final int MAX_VARIANTS = 256;
+
+    private ErrorResponses() {
+    }
+
+    public static final class Template {
+        private final int status;
+        private final byte[] body;
+        private final byte[] head;
+        private final byte[] timestampHead;
+        private final Map<String, byte[]> variants = new ConcurrentHashMap<>();
+        private final ThreadLocal<byte[]> timestampBuffer;
+
+        private Template(int status, String error, String message) {
+            this.status = status;
+            this.head = utf8("{\"error\":\"" + escape(error) + "\",\"message\":\"");
+            this.body = concat(head, utf8(escape(message) + "\"}"));
+            // {"error":..,"message":..,"status":401,"timestamp":<epoch ms>}
+            this.timestampHead = utf8("{\"error\":\"" + escape(error) + "\",\"message\":\"" + escape(message)
+                    + "\",\"status\":" + status + ",\"timestamp\":");
+            this.timestampBuffer = ThreadLocal.withInitial(() -> {
+                byte[] buf = new byte[timestampHead.length + 21];
+                System.arraycopy(timestampHead, 0, buf, 0, timestampHead.length);
+                return buf;
+            });
+        }
+
+        public int status() {
+            return status;
+        }
+
+        // 기본 메시지 본문
+        public byte[] body() {
+            return body;
+        }
+
+        // 메시지만 바꾼 본문 (메시지별로 한 번만 인코딩)
+        public byte[] body(String message) {
+            if (message == null) {
+                return body;
+            }
+            byte[] cached = variants.get(message);
+            if (cached != null) {
+                return cached;
+            }
+            byte[] encoded = concat(head, utf8(escape(message) + "\"}"));
+            if (variants.size() < MAX_VARIANTS) {
+                variants.putIfAbsent(message, encoded);
+            }
+            return encoded;
+        }
+
+        public ResponseEntity<byte[]> entity() {
+            return entity(body);
+        }
+
+        public ResponseEntity<byte[]> entity(String message) {
+            return entity(body(message));
+        }
+
+        private ResponseEntity<byte[]> entity(byte[] bytes) {
+            return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(bytes);
+        }
+
+        // 필터/엔트리 포인트용: 미리 만든 본문을 출력 스트림에 바로 씀
+        public void write(HttpServletResponse response) throws IOException {
+            write(response, body, body.length);
+        }
+
+        // Retry-After(초) 헤더와 함께
+        public void write(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            write(response, body, body.length);
+        }
+
+        // status/timestamp 가 들어간 본문 (timestamp 숫자만 채움, 할당 없음)
+        public void writeWithTimestamp(HttpServletResponse response, long epochMillis) throws IOException {
+            byte[] buf = timestampBuffer.get();
+            int end = writeDigits(buf, timestampHead.length, epochMillis);
+            buf[end++] = '}';
+            write(response, buf, end);
+        }
+
+        private void write(HttpServletResponse response, byte[] bytes, int length) throws IOException {
+            response.setStatus(status);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setContentLength(length);
+            ServletOutputStream out = response.getOutputStream();
+            out.write(bytes, 0, length);
+        }
+    }
+
+    // 음이 아닌 정수를 buf[pos..] 에 10진수로 쓰고 끝 위치 반환
+    static int writeDigits(byte[] buf, int pos, long value) {
+        long v = Math.max(0, value);
+        int digits = 1;
+        for (long t = v; t >= 10; t /= 10) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' + (v % 10));
+            v /= 10;
+        }
+        return end;
+    }
+
+    // JSON 문자열 이스케이프 (따옴표/역슬래시/제어문자)
+    static String escape(String s) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                if (sb == null) {
+                    sb = new StringBuilder(s.length() + 8).append(s, 0, i);
+                }
+                switch (c) {
+                    case '"' -> sb.append("\\\"");
+                    case '\\' -> sb.append("\\\\");
+                    case '\n' -> sb.append("\\n");
+                    case '\r' -> sb.append("\\r");
+                    case '\t' -> sb.append("\\t");
+                    default -> sb.append(String.format("\\u%04x", (int) c));
+                }
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] out = new byte[a.length + b.length];
+        System.arraycopy(a, 0, out, 0, a.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+}
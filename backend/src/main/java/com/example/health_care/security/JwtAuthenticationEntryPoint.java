@@ -1,19 +1,12 @@
 package com.example.health_care.security;
 
 
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
 
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.exc.StreamWriteException;
-import com.fasterxml.jackson.databind.DatabindException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import io.jsonwebtoken.io.IOException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -22,23 +15,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     
+    // 만료 토큰이 몰려도 401 은 미리 만든 본문 + timestamp 숫자만 씀 (ObjectMapper/Map 생성 없음)
     @Override
     public void commence(HttpServletRequest request,
                         HttpServletResponse response,
-                        AuthenticationException authException) throws IOException, StreamWriteException, DatabindException, java.io.IOException {
-        
-        log.error("Responding with unauthorized error. Message - {}", authException.getMessage());
-        
-        response.setContentType("application/json");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                        AuthenticationException authException) throws IOException {
         
-        ObjectMapper mapper = new ObjectMapper();
-        Map<String, Object> errorDetails = new HashMap<>();
-        errorDetails.put("error", "Unauthorized");
-        errorDetails.put("message", "You need to login first");
-        errorDetails.put("timestamp", new Date());
-        errorDetails.put("status", 401);
+        log.debug("Responding with unauthorized error. Message - {}", authException.getMessage());
         
-        mapper.writeValue(response.getWriter(), errorDetails);
+        ErrorResponses.UNAUTHORIZED.writeWithTimestamp(response, System.currentTimeMillis());
     }
 }
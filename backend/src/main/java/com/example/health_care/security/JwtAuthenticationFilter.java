@@ -2,17 +2,20 @@ package com.example.health_care.security;
 
 import java.io.IOException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.health_care.service.CustomerIdentityResolver;
 import com.example.health_care.service.TokenBlacklistService;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,8 +29,18 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsCache userDetailsCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final CustomerIdentityResolver identity;
+
+    // true: 토큰의 roles/idx claims 로 principal 생성 (요청마다 사용자 조회 없음)
+    @Value("${jwt.claims-principal:true}")
+    private boolean claimsPrincipal;
+
+    // false(기본): 짧은 수명의 접근 토큰은 요청마다 폐기 여부를 확인하지 않음 (재발급 시에만 확인)
+    //             배포 전 발급된 긴 수명 토큰은 항상 확인
+    @Value("${jwt.revocation.check-access-tokens:false}")
+    private boolean checkAccessTokens;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,30 +49,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
+            // 1) 유효성 검증 + 아직 인증 안된 경우만 컨텍스트 설정
+            //    (검증 결과는 캐시되므로 같은 토큰은 다음 요청부터 서명 검증 없이 통과)
+            if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                Claims claims = tokenProvider.getVerifiedClaims(jwt);
+                String username = claims == null ? null : claims.getSubject();
 
-                // 1) 블랙리스트 토큰 즉시 차단
-                if (tokenBlacklistService.isBlacklisted(jwt)) {
+                // 2) 블랙리스트 토큰 차단 (설정으로 켰거나 배포 전 발급된 긴 수명 토큰)
+                if (StringUtils.hasText(username)
+                        && (checkAccessTokens || tokenProvider.isLegacyToken(claims))
+                        && tokenBlacklistService.isBlacklisted(jwt)) {
                     log.debug("[JWT] blacklisted token blocked");
                 }
-                // 2) 유효성 검증 + 아직 인증 안된 경우만 컨텍스트 설정
-                else if (tokenProvider.validateToken(jwt)
-                        && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                    String username = tokenProvider.getUsernameFromToken(jwt);
-
-                    if (StringUtils.hasText(username)) {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                else if (StringUtils.hasText(username)) {
+                    CustomerPrincipal fromClaims = claimsPrincipal ? tokenProvider.principalFromClaims(claims) : null;
+                    UserDetails userDetails = fromClaims;
+                    if (fromClaims != null) {
+                        // 토큰에 담긴 idx 로 id ↔ idx 캐시를 채워 서비스의 변환 조회를 생략
+                        identity.remember(username, fromClaims.getIdx());
+                    } else {
+                        // roles claim 이 없는 이전 토큰 → 사용자 조회 (짧은 TTL 캐시)
+                        userDetails = userDetailsCache.load(username);
+                    }
 
-                        UsernamePasswordAuthenticationToken authentication =
-                                new UsernamePasswordAuthenticationToken(
-                                        userDetails, null, userDetails.getAuthorities());
-                        authentication.setDetails(
-                                new WebAuthenticationDetailsSource().buildDetails(request));
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(
+                            new WebAuthenticationDetailsSource().buildDetails(request));
 
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.debug("[JWT] authentication set for user: {}", username);
-                    }
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("[JWT] authentication set for user: {}", username);
                 }
             }
         } catch (Exception e) {
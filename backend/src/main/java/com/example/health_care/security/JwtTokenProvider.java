@@ -1,11 +1,16 @@
 package com.example.health_care.security;
 
 import java.time.*;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import javax.crypto.SecretKey;
 import org.hibernate.validator.internal.util.stereotypes.Lazy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import com.example.health_care.service.CustomersService;
@@ -21,28 +26,108 @@ public class JwtTokenProvider {
 
     @Lazy
     private final CustomersService cds;
+    private final VerifiedTokenCache verifiedTokens;
 
     private static final String SECRET_KEY = "756be4cf9581add13ddb3ab3e2f1e75f27a0661af1c1225a89ef9a1d44d3f03b";
-    private int jwtExpirationInMs = 24 * 60 * 60 * 1000;
+
+    // 접근 토큰은 짧게 (폐기는 재발급 토큰에서 확인)
+    @Value("${jwt.access-token-ttl-minutes:10}")
+    private long accessTokenTtlMinutes;
+
+    private static final String CLAIM_ROLES = "roles";
+    private static final String CLAIM_IDX = "idx";
+
+    // 서명 키와 파서는 한 번만 만들어 재사용 (둘 다 불변, 스레드 안전)
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parser().verifyWith(secretKey).build();
 
     private SecretKey getSecretKey() {
-        return io.jsonwebtoken.security.Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return secretKey;
+    }
+
+    // 서명 검증된 claims (이미 검증한 토큰은 캐시에서 바로 반환, 잘못된 토큰은 JwtException)
+    private Claims verifiedClaims(String token) {
+        String digest = TokenDigests.sha256Hex(token);
+        Claims cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(digest, claims);
+        return claims;
+    }
+
+    // 유효하면 claims, 아니면 null (validateToken 과 같은 로그)
+    public Claims getVerifiedClaims(String token) {
+        try {
+            return verifiedClaims(token);
+        } catch (MalformedJwtException ex) {
+            log.error("Invalid JWT token");
+        } catch (ExpiredJwtException ex) {
+            log.error("Expired JWT token");
+        } catch (UnsupportedJwtException ex) {
+            log.error("Unsupported JWT token");
+        } catch (IllegalArgumentException ex) {
+            log.error("JWT claims string is empty");
+        }
+        return null;
+    }
+
+    // 로그아웃된 토큰은 검증 캐시에서도 제거
+    public void forget(String token) {
+        verifiedTokens.invalidate(TokenDigests.sha256Hex(token));
     }
 
     public String createToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
+        return createToken((UserDetails) authentication.getPrincipal());
+    }
+
+    // 재발급 시에는 인증 과정 없이 사용자 정보로 바로 발급
+    public String createToken(UserDetails userPrincipal) {
+        Date expiryDate = new Date(System.currentTimeMillis() + getAccessTokenTtlMillis());
 
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
         return Jwts.builder()
                 .signWith(secretKey) // 아래의 정보들을 개인키로 암호화한 전자서명 생성
                 .subject(userPrincipal.getUsername()) // 여기서부터 토큰과 관련된 정보 저장
+                .claim(CLAIM_ROLES, userPrincipal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList())
+                .claim(CLAIM_IDX, userPrincipal instanceof CustomerPrincipal p ? p.getIdx() : null) // 고객 번호
                 .issuer("com.example") // 발급자:서비스이름
                 .issuedAt(new Date()) // 발급날짜
                 .expiration(expiryDate) // 만료날짜
                 .compact();
     }
 
+    // roles claim 이 없거나 수명(exp - iat)이 접근 토큰 TTL 보다 긴 토큰 = 재발급 토큰 도입 전에 발급된 토큰
+    // 이런 토큰은 만료까지 길게 남으므로 설정과 관계없이 폐기 여부를 확인
+    public boolean isLegacyToken(Claims claims) {
+        if (claims == null || claims.get(CLAIM_ROLES) == null) {
+            return true;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        // iat/exp 는 초 단위로 잘리므로 1초 여유
+        return issuedAt == null || expiration == null
+                || expiration.getTime() - issuedAt.getTime() > getAccessTokenTtlMillis() + 1000;
+    }
+
+    public long getAccessTokenTtlMillis() {
+        return Math.max(1, accessTokenTtlMinutes) * 60 * 1000;
+    }
+
+    // roles claim 이 있는 토큰이면 DB 조회 없이 principal 생성, 이전 형식 토큰이면 null
+    public CustomerPrincipal principalFromClaims(Claims claims) {
+        Object roles = claims.get(CLAIM_ROLES);
+        if (!(roles instanceof Collection<?> names) || claims.getSubject() == null) {
+            return null;
+        }
+        List<SimpleGrantedAuthority> authorities = names.stream()
+                .map(name -> new SimpleGrantedAuthority(String.valueOf(name)))
+                .toList();
+        Object idx = claims.get(CLAIM_IDX);
+        return new CustomerPrincipal(claims.getSubject(), "", authorities,
+                idx instanceof Number n ? n.longValue() : null);
+    }
+
     public Authentication getAuthentication(String token) {
         String username = getUsernameFromToken(token);
         UserDetails userDetails = cds.loadUserByUsername(username);
@@ -52,10 +137,7 @@ public class JwtTokenProvider {
     // 클라이언트가 보낸 토큰(메소드 인자 String token)을 검증하는 메소드
     public String getUsernameFromToken(String token) {
 
-        SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        Claims claims = verifiedClaims(token);
 
         // subject 는 username를 저장했으므로 토큰 값을 분해해서 얻은 subject 는 username 이다.
         return claims.getSubject();
@@ -63,30 +145,12 @@ public class JwtTokenProvider {
 
     // 로그아웃 추가 코드
     public boolean validateToken(String authToken) {
-        try {
-            SecretKey secretKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(authToken);
-            return true;
-        } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty");
-        }
-        return false;
+        return getVerifiedClaims(authToken) != null;
     }
 
     public String getUsername(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
+            return verifiedClaims(token).getSubject();
         } catch (Exception e) {
             return null;
         }
@@ -94,12 +158,7 @@ public class JwtTokenProvider {
 
     public LocalDateTime getExpiry(String token) {
         try {
-            Date exp = Jwts.parser()
-                    .verifyWith(getSecretKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getExpiration();
+            Date exp = verifiedClaims(token).getExpiration();
             return exp == null ? null
                     : exp.toInstant()
                             .atZone(ZoneId.systemDefault())
@@ -126,8 +185,7 @@ public class JwtTokenProvider {
     // >>> [ADDED] 복구 토큰 검증 + 사용자ID 추출 (유형 체크)
     public String validateAndGetUserFromRecoveryToken(String token) {
         try {
-            Claims c = Jwts.parser().verifyWith(getSecretKey()).build()
-                    .parseSignedClaims(token).getPayload();
+            Claims c = verifiedClaims(token);
             if (!"PW_RESET".equals(c.get("typ")))
                 return null;
             return c.getSubject();
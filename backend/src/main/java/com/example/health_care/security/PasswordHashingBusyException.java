@@ -0,0 +1,9 @@
+package com.example.health_care.security;
+
+// 비밀번호 해시 전용 풀이 가득 차서 요청을 바로 거절한 경우 (503 으로 응답)
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
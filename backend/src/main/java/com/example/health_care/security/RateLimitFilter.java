@@ -0,0 +1,305 @@
+package com.example.health_care.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.health_care.config.RateLimitProperties;
+import com.example.health_care.config.RateLimitProperties.Limit;
+import com.example.health_care.config.RateLimitProperties.Rule;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 공개(비로그인) 엔드포인트용 토큰 버킷 요청 제한
+ *
+ * - 규칙(rate-limit.rules)별로 클라이언트 IP, JSON 본문의 계정(id) 각각에 버킷을 둠
+ * - 버킷은 ConcurrentHashMap(빈 단위 잠금)에 보관하고, 버킷 하나의 갱신만 그 버킷에서 동기화
+ * - 한도 초과 시 미리 만든 바이트로 429 응답 (DB 조회/암호 연산 없음)
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // 계정 필드를 찾기 위해 미리 읽는 본문 최대 크기
+    private static final int MAX_PEEK_BYTES = 8 * 1024;
+
+    private final RateLimitProperties props;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimitFilter(RateLimitProperties props, MeterRegistry registry) {
+        this.props = props;
+        FunctionCounter.builder("ratelimit.rejected", rejected, LongAdder::sum)
+                .description("요청 제한으로 거절한 수").register(registry);
+        Gauge.builder("ratelimit.buckets", buckets, Map::size)
+                .description("보관 중인 토큰 버킷 수").register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Rule rule = props.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long now = System.nanoTime();
+
+        // 1) IP 단위
+        if (rule.getIp() != null) {
+            long wait = tryConsume(rule.getName() + "|ip|" + clientIp(request), rule.getIp(), now, false);
+            if (wait > 0) {
+                reject(response, wait);
+                return;
+            }
+        }
+
+        // 2) 계정 단위 (JSON 본문의 계정 필드, 본문은 다시 읽을 수 있게 감쌈)
+        HttpServletRequest forward = request;
+        if (rule.getAccount() != null && isJson(request)) {
+            BufferedBodyRequest buffered = new BufferedBodyRequest(request);
+            forward = buffered;
+            String account = readAccount(buffered.head(), rule.getAccountField());
+            if (StringUtils.hasText(account)) {
+                // 임의 길이 입력이 키/메모리를 키우지 않도록 정규화한 계정의 다이제스트(고정 64자)를 키로 사용
+                String digest = TokenDigests.sha256Hex(account.trim().toLowerCase(Locale.ROOT));
+                long wait = tryConsume(rule.getName() + "|acct|" + digest, rule.getAccount(), now, true);
+                if (wait > 0) {
+                    reject(response, wait);
+                    return;
+                }
+            }
+        }
+
+        chain.doFilter(forward, response);
+    }
+
+    // 오래 쓰이지 않은 버킷 정리
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long idleNanos = TimeUnit.SECONDS.toNanos(Math.max(1, props.getIdleEvictSeconds()));
+        long now = System.nanoTime();
+        buckets.values().removeIf(b -> b.idleFor(now) >= idleNanos);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<Rule> rules = props.getRules();
+        for (Rule rule : rules) {
+            if (StringUtils.hasText(rule.getMethod()) && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (matcher.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // 허용이면 0, 거절이면 다음 토큰까지 남은 나노초
+    // 버킷이 가득 차면 IP 는 새 클라이언트를 거절, 계정은 허용 (아무 id 나 보내 버킷을 채우면
+    // 모든 새 로그인이 막히므로, 계정 단위는 IP 단위 제한에만 맡김)
+    private long tryConsume(String key, Limit limit, long now, boolean failOpen) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= props.getMaxBuckets()) {
+                evictIdle();
+                if (buckets.size() >= props.getMaxBuckets()) {
+                    return failOpen ? 0 : TimeUnit.SECONDS.toNanos(1);
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(limit, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        rejected.increment();
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        ErrorResponses.TOO_MANY_REQUESTS.write(response, retryAfter);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (props.isTrustForwardedFor()) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwarded)) {
+                int comma = forwarded.indexOf(',');
+                return (comma < 0 ? forwarded : forwarded.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static boolean isJson(HttpServletRequest request) {
+        String type = request.getContentType();
+        return type != null && type.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    // 최상위 객체의 field 문자열 값 (잘린 본문이나 형식 오류면 찾은 데까지만)
+    private String readAccount(byte[] head, String field) {
+        if (head.length == 0) {
+            return null;
+        }
+        try (JsonParser p = jsonFactory.createParser(head)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.currentName();
+                JsonToken v = p.nextToken();
+                if (field.equals(name) && v == JsonToken.VALUE_STRING) {
+                    return p.getText();
+                }
+                p.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // 토큰 버킷 (갱신은 버킷 단위 동기화)
+    static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill;
+        private volatile long lastUsed;
+
+        TokenBucket(Limit limit, long now) {
+            this.capacity = Math.max(1, limit.getCapacity() > 0 ? limit.getCapacity() : limit.getPerMinute());
+            this.tokensPerNano = Math.max(1, limit.getPerMinute()) / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+            this.lastRefill = now;
+            this.lastUsed = now;
+        }
+
+        synchronized long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            lastUsed = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        long idleFor(long now) {
+            return now - lastUsed;
+        }
+    }
+
+    // 앞부분을 미리 읽어 둔 요청 (컨트롤러는 미리 읽은 부분 + 나머지 스트림을 그대로 읽음)
+    static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] head;
+        private final ServletInputStream body;
+
+        BufferedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            ServletInputStream original = request.getInputStream();
+            this.head = original.readNBytes(MAX_PEEK_BYTES);
+            ByteArrayInputStream headIn = new ByteArrayInputStream(head);
+            InputStream joined = new SequenceInputStream(headIn, original);
+            this.body = new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int b = joined.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = joined.read(b, off, len);
+                    finished = n < 0;
+                    return n;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished || (headIn.available() == 0 && original.isFinished());
+                }
+
+                // 미리 읽은 부분이 남아 있으면 메모리에서 바로 읽을 수 있음, 그 뒤로는 원래 스트림 기준
+                @Override
+                public boolean isReady() {
+                    return headIn.available() > 0 || original.isReady();
+                }
+
+                // 비동기 읽기는 원래 스트림에 위임 (본문이 미리 읽은 부분에서 끝났으면
+                // 원래 스트림은 바로 onAllDataRead 를 부르므로, 그 전에 남은 앞부분을 읽을 기회를 줌)
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    original.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() throws IOException {
+                            listener.onDataAvailable();
+                        }
+
+                        @Override
+                        public void onAllDataRead() throws IOException {
+                            if (headIn.available() > 0) {
+                                listener.onDataAvailable();
+                            }
+                            listener.onAllDataRead();
+                        }
+
+                        @Override
+                        public void onError(Throwable t) {
+                            listener.onError(t);
+                        }
+                    });
+                }
+            };
+        }
+
+        byte[] head() {
+            return head;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return body;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(body, Charset.forName(encoding)));
+        }
+    }
+}
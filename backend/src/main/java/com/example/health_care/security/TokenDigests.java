@@ -0,0 +1,27 @@
+package com.example.health_care.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 토큰(또는 계정 등 임의 문자열) 원문 대신 보관/비교에 쓰는 SHA-256 다이제스트 (hex 64자)
+public final class TokenDigests {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    public static String sha256Hex(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.health_care.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+// loadUserByUsername 결과를 짧게 보관하는 캐시 (ttl-seconds 가 0 이면 항상 DB 조회)
+// roles/idx claims 가 없는 이전 토큰이나 claims 모드를 끈 경우에만 사용됩니다.
+@Component
+public class UserDetailsCache {
+
+    private record Entry(UserDetails user, long expiresAtNanos) {
+    }
+
+    private final UserDetailsService userDetailsService;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserDetailsCache(UserDetailsService userDetailsService,
+            @Value("${jwt.user-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${jwt.user-cache.max-size:10000}") int maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    public UserDetails load(String username) {
+        if (ttlNanos == 0) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+        long now = System.nanoTime();
+        Entry e = entries.get(username);
+        if (e != null && now - e.expiresAtNanos() < 0) {
+            return e.user();
+        }
+        UserDetails loaded = withoutPassword(userDetailsService.loadUserByUsername(username));
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(old -> now - old.expiresAtNanos() >= 0);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(username, new Entry(loaded, now + ttlNanos));
+        return loaded;
+    }
+
+    // 계정 정보가 바뀌면 즉시 제거 (CustomersService 의 비밀번호/프로필 변경에서 호출)
+    public void evict(String username) {
+        entries.remove(username);
+    }
+
+    // 캐시에는 비밀번호 해시를 남기지 않음
+    private static UserDetails withoutPassword(UserDetails user) {
+        Long idx = user instanceof CustomerPrincipal p ? p.getIdx() : null;
+        return new CustomerPrincipal(user.getUsername(), "", user.getAuthorities(), idx);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.health_care.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 서명 검증을 마친 JWT 의 claims 캐시 (키: 토큰 SHA-256, 토큰 자체의 exp 가 지나면 제거)
+// 한 번 검증한 토큰은 이후 요청에서 다이제스트 계산 + 해시 조회 한 번으로 인증됩니다.
+@Component
+public class VerifiedTokenCache {
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(MeterRegistry registry,
+            @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+
+        FunctionCounter.builder("jwt.verified.cache.hits", hits, LongAdder::sum)
+                .description("서명 검증을 생략한 토큰 수").register(registry);
+        FunctionCounter.builder("jwt.verified.cache.misses", misses, LongAdder::sum)
+                .description("서명 검증을 수행한 토큰 수").register(registry);
+        Gauge.builder("jwt.verified.cache.size", entries, Map::size)
+                .description("검증 완료 토큰 캐시 항목 수").register(registry);
+    }
+
+    // 캐시에 있고 아직 만료 전이면 claims, 아니면 null
+    public Claims get(String digest) {
+        Entry e = entries.get(digest);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.currentTimeMillis() >= e.expiresAtMillis()) {
+            entries.remove(digest, e);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.claims();
+    }
+
+    // 만료 시각이 없는 토큰은 캐시하지 않음
+    public void put(String digest, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest, new Entry(claims, claims.getExpiration().getTime()));
+    }
+
+    // 로그아웃 등으로 더 이상 믿으면 안 되는 토큰 제거
+    public void invalidate(String digest) {
+        entries.remove(digest);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 만료 항목 정리
+    @Scheduled(fixedDelayString = "${jwt.cache.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(e -> now >= e.expiresAtMillis());
+    }
+
+    // 가득 차면 만료 항목부터 치우고, 그래도 넘치면 임의 항목을 10% 정도 비움 (다음 요청에서 다시 검증)
+    private void evict() {
+        sweepExpired();
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 출석 집계를 정렬된 epochDay 배열 한 번 순회로 계산
+ *
+ * 연속 출석/최장 연속/이번 달 연속·일수/개근 달/코인/오늘 코인/월별 출석 수를 모두 같은 순회에서 구함.
+ * 날짜 객체는 달이 바뀔 때만 만들고, 나머지는 long 비교뿐이라 이력 길이에 선형이면서 할당이 거의 없습니다.
+ * 입력은 중복 없는 오름차순 epochDay (AttendanceBitmap.toEpochDays()).
+ */
+public final class AttendanceAnalytics {
+
+    private AttendanceAnalytics() {
+    }
+
+    public record Result(
+            long firstDay,          // 출석 없으면 Long.MIN_VALUE
+            long lastDay,
+            int totalDays,
+            int currentStreak,      // 오늘(오늘 미출석이면 어제)에서 끝나는 연속 출석
+            int longestStreak,
+            int monthDays,          // 이번 달 출석일 수
+            int monthStreak,        // 이번 달 1일부터 이어진 연속 출석 (오늘/어제까지)
+            int perfectMonthCount,  // 첫 출석 달 ~ 이번 달 중 개근한 달 수
+            boolean perfectThisMonth,
+            boolean attendedToday,
+            int coins,
+            int todayCoins,
+            int firstMonthIndex,    // histogram[0] 의 달 (year * 12 + month - 1)
+            int[] histogram) {      // 첫 출석 달부터 마지막 출석 달까지 달별 출석 수
+
+        public boolean isEmpty() {
+            return totalDays == 0;
+        }
+
+        public LocalDate firstDate() {
+            return isEmpty() ? null : LocalDate.ofEpochDay(firstDay);
+        }
+
+        public LocalDate lastDate() {
+            return isEmpty() ? null : LocalDate.ofEpochDay(lastDay);
+        }
+
+        public int countIn(YearMonth ym) {
+            int i = monthIndex(ym) - firstMonthIndex;
+            return i >= 0 && i < histogram.length ? histogram[i] : 0;
+        }
+
+        // 개근한 달 목록 (upTo 까지)
+        public List<YearMonth> perfectMonths(YearMonth upTo) {
+            List<YearMonth> out = new ArrayList<>();
+            int limit = Math.min(histogram.length, monthIndex(upTo) - firstMonthIndex + 1);
+            for (int i = 0; i < limit; i++) {
+                YearMonth ym = ofMonthIndex(firstMonthIndex + i);
+                if (histogram[i] == ym.lengthOfMonth()) {
+                    out.add(ym);
+                }
+            }
+            return out;
+        }
+    }
+
+    private static final Result EMPTY = new Result(Long.MIN_VALUE, Long.MIN_VALUE, 0, 0, 0, 0, 0, 0,
+            false, false, 0, 0, 0, new int[0]);
+
+    public static Result analyze(AttendanceBitmap days, LocalDate today) {
+        return analyze(days.toEpochDays(), today);
+    }
+
+    public static Result analyze(int[] days, LocalDate today) {
+        int n = days.length;
+        if (n == 0) {
+            return EMPTY;
+        }
+        final long todayDay = today.toEpochDay();
+        final boolean attendedToday = Arrays.binarySearch(days, (int) todayDay) >= 0;
+        final long anchor = attendedToday ? todayDay : todayDay - 1;
+
+        final YearMonth ymNow = YearMonth.from(today);
+        final int nowMonthIndex = monthIndex(ymNow);
+        final long nowMonthStart = ymNow.atDay(1).toEpochDay();
+        final long nowMonthEnd = ymNow.atEndOfMonth().toEpochDay();
+
+        LocalDate firstDate = LocalDate.ofEpochDay(days[0]);
+        LocalDate lastDate = LocalDate.ofEpochDay(days[n - 1]);
+        final int firstMonthIndex = monthIndex(YearMonth.from(firstDate));
+        int[] histogram = new int[monthIndex(YearMonth.from(lastDate)) - firstMonthIndex + 1];
+
+        int currentStreak = 0;
+        int longest = 0;
+        int monthDays = 0;
+        int monthStreak = 0;
+
+        int run = 0;
+        long runStart = 0;
+        long prev = Long.MIN_VALUE;
+
+        // 현재 달 경계 (달이 바뀔 때만 날짜 계산)
+        int month = -1;
+        long monthEndDay = Long.MIN_VALUE;
+
+        for (int i = 0; i < n; i++) {
+            long d = days[i];
+
+            if (d == prev + 1) {
+                run++;
+            } else {
+                run = 1;
+                runStart = d;
+            }
+            prev = d;
+            if (run > longest) {
+                longest = run;
+            }
+
+            if (d > monthEndDay) {
+                LocalDate date = LocalDate.ofEpochDay(d);
+                month = monthIndex(YearMonth.from(date)) - firstMonthIndex;
+                monthEndDay = d + date.lengthOfMonth() - date.getDayOfMonth();
+            }
+            histogram[month]++;
+
+            if (d == anchor) {
+                currentStreak = run;
+            }
+            if (d >= nowMonthStart && d <= nowMonthEnd) {
+                monthDays++;
+                // 1일부터 끊기지 않고 이어진 구간 (anchor 까지만)
+                if (d <= anchor && runStart <= nowMonthStart) {
+                    monthStreak = (int) (d - nowMonthStart + 1);
+                }
+            }
+        }
+
+        int perfect = 0;
+        int upTo = Math.min(histogram.length, nowMonthIndex - firstMonthIndex + 1);
+        for (int i = 0; i < upTo; i++) {
+            if (histogram[i] == ofMonthIndex(firstMonthIndex + i).lengthOfMonth()) {
+                perfect++;
+            }
+        }
+        int nowSlot = nowMonthIndex - firstMonthIndex;
+        boolean perfectThisMonth = nowSlot >= 0 && nowSlot < histogram.length
+                && histogram[nowSlot] == ymNow.lengthOfMonth();
+
+        int coins = coins(n, perfect);
+        int todayCoins = attendedToday
+                ? todayCoins(n, perfectThisMonth && today.getDayOfMonth() == ymNow.lengthOfMonth())
+                : 0;
+
+        return new Result(days[0], days[n - 1], n, currentStreak, longest, monthDays, monthStreak, perfect,
+                perfectThisMonth, attendedToday, coins, todayCoins, firstMonthIndex, histogram);
+    }
+
+    // today 이하 출석일만 (미래 날짜는 그날이 올 때까지 세지 않음, /status 와 랭킹이 같은 기준으로 사용)
+    public static int[] upTo(int[] days, LocalDate today) {
+        int i = Arrays.binarySearch(days, (int) today.toEpochDay());
+        int n = i >= 0 ? i + 1 : -i - 1;
+        return n == days.length ? days : Arrays.copyOf(days, n);
+    }
+
+    // 2일마다 1, 30일마다 30, 개근한 달마다 15
+    public static int coins(int totalDays, int perfectMonths) {
+        return (totalDays / 2) + ((totalDays / 30) * 30) + perfectMonths * 15;
+    }
+
+    public static int todayCoins(int totalDays, boolean monthCompletedToday) {
+        int coins = 0;
+        if (totalDays % 2 == 0) coins += 1;
+        if (totalDays % 30 == 0) coins += 30;
+        if (monthCompletedToday) coins += 15;
+        return coins;
+    }
+
+    static int monthIndex(YearMonth ym) {
+        return ym.getYear() * 12 + ym.getMonthValue() - 1;
+    }
+
+    static YearMonth ofMonthIndex(int index) {
+        return YearMonth.of(Math.floorDiv(index, 12), Math.floorMod(index, 12) + 1);
+    }
+}
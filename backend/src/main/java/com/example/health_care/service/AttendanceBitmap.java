@@ -0,0 +1,273 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 고객 한 명의 출석일 비트맵 (불변)
+ *
+ * - 연도별로 long[6] (366 bit), 비트 번호 = 그 해의 몇 번째 날 - 1
+ * - 연속 출석은 numberOfLeadingZeros/numberOfTrailingZeros 로 워드 단위로 건너뛰며 계산
+ * - 구간 출석 수는 마스크한 워드의 bitCount 합
+ * 날짜 추가는 바뀐 연도 배열만 복사한 새 비트맵을 돌려주므로 읽는 쪽은 잠금 없이 사용합니다.
+ */
+public final class AttendanceBitmap {
+
+    public static final AttendanceBitmap EMPTY = new AttendanceBitmap(new int[0], new long[0][]);
+
+    private static final int WORDS_PER_YEAR = 6;
+
+    private final int[] years;      // 오름차순
+    private final long[][] words;   // years[i] 의 비트
+
+    private AttendanceBitmap(int[] years, long[][] words) {
+        this.years = years;
+        this.words = words;
+    }
+
+    public static AttendanceBitmap of(Collection<LocalDate> dates) {
+        Map<Integer, long[]> byYear = new TreeMap<>();
+        for (LocalDate d : dates) {
+            long[] w = byYear.computeIfAbsent(d.getYear(), y -> new long[WORDS_PER_YEAR]);
+            int bit = d.getDayOfYear() - 1;
+            w[bit >>> 6] |= 1L << bit;
+        }
+        int[] ys = new int[byYear.size()];
+        long[][] ws = new long[byYear.size()][];
+        int i = 0;
+        for (Map.Entry<Integer, long[]> e : byYear.entrySet()) {
+            ys[i] = e.getKey();
+            ws[i++] = e.getValue();
+        }
+        return new AttendanceBitmap(ys, ws);
+    }
+
+    // 날짜를 추가한 새 비트맵 (이미 있으면 this)
+    public AttendanceBitmap with(LocalDate d) {
+        if (contains(d)) {
+            return this;
+        }
+        int bit = d.getDayOfYear() - 1;
+        int i = Arrays.binarySearch(years, d.getYear());
+        if (i >= 0) {
+            long[][] ws = words.clone();
+            ws[i] = ws[i].clone();
+            ws[i][bit >>> 6] |= 1L << bit;
+            return new AttendanceBitmap(years, ws);
+        }
+        int at = -i - 1;
+        int[] ys = new int[years.length + 1];
+        long[][] ws = new long[years.length + 1][];
+        System.arraycopy(years, 0, ys, 0, at);
+        System.arraycopy(words, 0, ws, 0, at);
+        System.arraycopy(years, at, ys, at + 1, years.length - at);
+        System.arraycopy(words, at, ws, at + 1, years.length - at);
+        ys[at] = d.getYear();
+        ws[at] = new long[WORDS_PER_YEAR];
+        ws[at][bit >>> 6] |= 1L << bit;
+        return new AttendanceBitmap(ys, ws);
+    }
+
+    public boolean isEmpty() {
+        return years.length == 0;
+    }
+
+    public boolean contains(LocalDate d) {
+        long[] w = wordsOf(d.getYear());
+        int bit = d.getDayOfYear() - 1;
+        return w != null && (w[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    // 전체 출석일 수
+    public int count() {
+        int n = 0;
+        for (long[] w : words) {
+            for (long x : w) {
+                n += Long.bitCount(x);
+            }
+        }
+        return n;
+    }
+
+    // [from, to] 출석일 수 (양 끝 포함)
+    public int count(LocalDate from, LocalDate to) {
+        int n = 0;
+        for (int y = from.getYear(); y <= to.getYear(); y++) {
+            long[] w = wordsOf(y);
+            if (w == null) {
+                continue;
+            }
+            int a = y == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int b = y == to.getYear() ? to.getDayOfYear() - 1 : Year.of(y).length() - 1;
+            n += countBits(w, a, b);
+        }
+        return n;
+    }
+
+    public int count(YearMonth ym) {
+        return count(ym.atDay(1), ym.atEndOfMonth());
+    }
+
+    // 그 달의 모든 날에 출석했는지
+    public boolean isFull(YearMonth ym) {
+        return count(ym) == ym.lengthOfMonth();
+    }
+
+    public LocalDate first() {
+        for (int i = 0; i < years.length; i++) {
+            long[] w = words[i];
+            for (int k = 0; k < WORDS_PER_YEAR; k++) {
+                if (w[k] != 0) {
+                    return LocalDate.ofYearDay(years[i], k * 64 + Long.numberOfTrailingZeros(w[k]) + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    public LocalDate last() {
+        for (int i = years.length - 1; i >= 0; i--) {
+            long[] w = words[i];
+            for (int k = WORDS_PER_YEAR - 1; k >= 0; k--) {
+                if (w[k] != 0) {
+                    return LocalDate.ofYearDay(years[i], k * 64 + 63 - Long.numberOfLeadingZeros(w[k]) + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    // end 에서 끝나는 연속 출석 일수 (end 미출석이면 0)
+    public int streakEndingAt(LocalDate end) {
+        int year = end.getYear();
+        int bit = end.getDayOfYear() - 1;
+        int streak = 0;
+        while (true) {
+            long[] w = wordsOf(year);
+            if (w == null) {
+                return streak;
+            }
+            for (int k = bit >>> 6; k >= 0; k--) {
+                int hi = k == bit >>> 6 ? bit & 63 : 63;
+                long mask = hi == 63 ? -1L : (1L << (hi + 1)) - 1;
+                long zeros = ~w[k] & mask;
+                if (zeros != 0) {
+                    // hi 아래에서 가장 가까운 빈 날까지가 연속 구간
+                    return streak + hi - (63 - Long.numberOfLeadingZeros(zeros));
+                }
+                streak += hi + 1;
+            }
+            // 1월 1일까지 모두 출석 → 전년도 마지막 날부터 이어서
+            year--;
+            bit = Year.of(year).length() - 1;
+        }
+    }
+
+    // start 부터 앞으로 이어지는 연속 출석 일수 (end 까지만 셈)
+    public int runStartingAt(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return 0;
+        }
+        long limit = end.toEpochDay() - start.toEpochDay() + 1;
+        int year = start.getYear();
+        int bit = start.getDayOfYear() - 1;
+        long run = 0;
+        while (run < limit) {
+            long[] w = wordsOf(year);
+            if (w == null) {
+                break;
+            }
+            int yearLength = Year.of(year).length();
+            int pos = yearLength;
+            for (int k = bit >>> 6; k < WORDS_PER_YEAR; k++) {
+                long mask = k == bit >>> 6 ? -1L << bit : -1L;
+                long zeros = ~w[k] & mask;
+                if (zeros != 0) {
+                    pos = k * 64 + Long.numberOfTrailingZeros(zeros);
+                    break;
+                }
+            }
+            if (pos < yearLength) {
+                run += pos - bit;
+                break;
+            }
+            // 12월 31일까지 모두 출석 → 다음 해 1월 1일부터 이어서
+            run += yearLength - bit;
+            year++;
+            bit = 0;
+        }
+        return (int) Math.min(run, limit);
+    }
+
+    // [from, to] 의 출석일 (오름차순)
+    public List<LocalDate> datesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> out = new ArrayList<>();
+        for (int y = from.getYear(); y <= to.getYear(); y++) {
+            long[] w = wordsOf(y);
+            if (w == null) {
+                continue;
+            }
+            int a = y == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int b = y == to.getYear() ? to.getDayOfYear() - 1 : Year.of(y).length() - 1;
+            for (int k = a >>> 6; k <= b >>> 6; k++) {
+                long x = w[k] & rangeMask(k, a, b);
+                while (x != 0) {
+                    int bit = k * 64 + Long.numberOfTrailingZeros(x);
+                    out.add(LocalDate.ofYearDay(y, bit + 1));
+                    x &= x - 1;
+                }
+            }
+        }
+        return out;
+    }
+
+    // 출석일을 오름차순 epochDay 배열로 (AttendanceAnalytics 입력)
+    public int[] toEpochDays() {
+        int[] out = new int[count()];
+        int n = 0;
+        for (int i = 0; i < years.length; i++) {
+            int base = (int) LocalDate.of(years[i], 1, 1).toEpochDay();
+            long[] w = words[i];
+            for (int k = 0; k < WORDS_PER_YEAR; k++) {
+                long x = w[k];
+                while (x != 0) {
+                    out[n++] = base + k * 64 + Long.numberOfTrailingZeros(x);
+                    x &= x - 1;
+                }
+            }
+        }
+        return out;
+    }
+
+    private long[] wordsOf(int year) {
+        int i = Arrays.binarySearch(years, year);
+        return i >= 0 ? words[i] : null;
+    }
+
+    private static int countBits(long[] w, int a, int b) {
+        int n = 0;
+        for (int k = a >>> 6; k <= b >>> 6; k++) {
+            n += Long.bitCount(w[k] & rangeMask(k, a, b));
+        }
+        return n;
+    }
+
+    // 워드 k 에서 비트 [a, b] 에 해당하는 마스크
+    private static long rangeMask(int k, int a, int b) {
+        long mask = -1L;
+        if (k == a >>> 6) {
+            mask &= -1L << a;
+        }
+        if (k == b >>> 6) {
+            mask &= -1L >>> (63 - (b & 63));
+        }
+        return mask;
+    }
+}
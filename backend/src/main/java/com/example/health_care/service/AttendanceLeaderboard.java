@@ -0,0 +1,415 @@
+package com.example.health_care.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연속 출석 / 코인 랭킹 (메모리)
+ *
+ * - 기동 시 attendance_log 를 고객 순으로 한 번 읽어 채우고, 이후에는 체크인한 고객 한 명만 갱신
+ * - 지표별로 (점수 내림차순, 고객 번호) 정렬 트리 + 점수별 인원 Fenwick 트리를 둠
+ *   → 상위 N / 내 순위 / 내 주변 모두 O(log n) (+ 돌려주는 행 수)
+ * - 점수는 /status 와 같은 기준(AttendanceAnalytics.upTo: 오늘 이하 출석만)으로 계산
+ *   (체크인/일괄 반영은 미래 날짜를 받지 않고, 예전에 들어간 미래 날짜는 그날이 올 때 반영)
+ * - 연속 출석은 날짜가 지나면 끊기므로, 구간 끝 순 색인으로 어제 이전에 끝난 연속만 0 으로 내림
+ * 순위는 동점이면 같은 순위 (1, 2, 2, 4).
+ */
+@Slf4j
+@Component
+public class AttendanceLeaderboard {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final Comparator<long[]> DAY_THEN_IDX =
+            Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[1]);
+
+    public enum Metric {
+        STREAK, COINS
+    }
+
+    public record Row(int rank, Long customerIdx, int score) {
+    }
+
+    // 고객별 상태 (계산한 날 기준): 연속 출석 구간의 끝(오늘 또는 어제)과 길이, 코인, 아직 오지 않은 다음 출석일
+    record Standing(long runEnd, int run, int coins, long nextFuture) {
+
+        // days: 중복 없는 오름차순 epochDay, today 이후 날짜는 그날이 올 때까지 세지 않음 (/status 와 같은 기준)
+        static Standing of(int[] days, long today) {
+            int[] counted = AttendanceAnalytics.upTo(days, LocalDate.ofEpochDay(today));
+            int n = counted.length;
+            long nextFuture = n < days.length ? days[n] : Long.MAX_VALUE;
+            if (n == 0) {
+                return nextFuture == Long.MAX_VALUE ? null : new Standing(today - 1, 0, 0, nextFuture);
+            }
+            AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(counted, LocalDate.ofEpochDay(today));
+            return new Standing(r.attendedToday() ? today : today - 1, r.currentStreak(), r.coins(), nextFuture);
+        }
+
+        // today 기준 연속 출석 (오늘 또는 어제까지 이어졌을 때만)
+        int streakOn(long today) {
+            return runEnd >= today - 1 ? run : 0;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final AttendanceStore store;
+    private final Clock clock;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Standing> standings = new HashMap<>();
+    private final Board streaks = new Board();
+    private final Board coins = new Board();
+    // 연속 출석이 아직 살아 있는 고객 (구간 끝, 고객 번호) 순
+    private final TreeSet<long[]> alive = new TreeSet<>(DAY_THEN_IDX);
+    // 미래 날짜 출석이 있는 고객 (다음 출석일, 고객 번호) 순 → 그날이 되면 다시 계산
+    private final TreeSet<long[]> future = new TreeSet<>(DAY_THEN_IDX);
+    private volatile long rolledTo = Long.MIN_VALUE;
+
+    @Autowired
+    public AttendanceLeaderboard(JdbcTemplate jdbc, AttendanceStore store, MeterRegistry registry) {
+        this(jdbc, store, registry, Clock.system(ZONE));
+    }
+
+    AttendanceLeaderboard(JdbcTemplate jdbc, AttendanceStore store, MeterRegistry registry, Clock clock) {
+        this.jdbc = jdbc;
+        this.store = store;
+        this.clock = clock;
+        Gauge.builder("attendance.ranking.size", this, AttendanceLeaderboard::size)
+                .description("랭킹에 올라 있는 고객 수").register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(this::loadFromLog, "attendance-ranking-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // attendance_log 한 번 순회 (고객별로 모아 집계 후 반영, 그 사이 체크인으로 들어온 고객은 그대로 둠)
+    public void loadFromLog() {
+        long start = System.currentTimeMillis();
+        try {
+            Seed cur = new Seed();
+            jdbc.query("SELECT customer_id, record_date FROM attendance_log ORDER BY customer_id, record_date", rs -> {
+                long idx = rs.getLong(1);
+                int day = (int) rs.getDate(2).toLocalDate().toEpochDay();
+                if (cur.idx == null || cur.idx != idx) {
+                    seed(cur);
+                    cur.idx = idx;
+                    cur.n = 0;
+                }
+                cur.add(day);
+            });
+            seed(cur);
+            log.info("[ATTENDANCE-RANKING] loaded {} customers in {} ms", cur.loaded,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[ATTENDANCE-RANKING] initial load failed - {}", e.getMessage());
+        }
+    }
+
+    private void seed(Seed cur) {
+        if (cur.idx == null || cur.n == 0) {
+            return;
+        }
+        long today = today();
+        Standing s = Standing.of(Arrays.copyOf(cur.days, cur.n), today);
+        if (s == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!standings.containsKey(cur.idx)) {
+                apply(cur.idx, s, today);
+                cur.loaded++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 기동 시 읽는 중인 고객 한 명의 출석일 (오름차순 epochDay)
+    private static final class Seed {
+        Long idx;
+        int[] days = new int[64];
+        int n;
+        int loaded;
+
+        void add(int day) {
+            if (n > 0 && days[n - 1] == day) {
+                return;
+            }
+            if (n == days.length) {
+                days = Arrays.copyOf(days, n * 2);
+            }
+            days[n++] = day;
+        }
+    }
+
+    // 체크인/일괄 반영 커밋 후 호출: 그 고객의 비트맵으로 상태를 다시 계산해 두 랭킹에 반영
+    public void update(Long customerIdx, AttendanceBitmap bitmap) {
+        if (customerIdx == null) {
+            return;
+        }
+        long today = today();
+        Standing s = Standing.of(bitmap.toEpochDays(), today);
+        lock.writeLock().lock();
+        try {
+            if (s == null) {
+                remove(customerIdx);
+            } else {
+                apply(customerIdx, s, today);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 상위 limit 명
+    public List<Row> top(Metric metric, int limit) {
+        rollover();
+        lock.readLock().lock();
+        try {
+            return board(metric).top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내 순위 (랭킹에 없으면 null)
+    public Row rankOf(Metric metric, Long customerIdx) {
+        rollover();
+        lock.readLock().lock();
+        try {
+            return board(metric).row(customerIdx);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내 위아래 radius 명씩 (나 포함, 순위 순)
+    public List<Row> around(Metric metric, Long customerIdx, int radius) {
+        rollover();
+        lock.readLock().lock();
+        try {
+            return board(metric).around(customerIdx, radius);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return standings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜가 바뀐 뒤 처음 조회할 때 한 번
+     * - 어제 이전에 끝난 연속 출석을 0 으로 (끊긴 고객 수만큼만 작업)
+     * - 미래 날짜로 체크인해 둔 고객은 그날이 됐으면 이력으로 다시 계산 (/status 와 같은 기준으로 맞춤)
+     */
+    private void rollover() {
+        long today = today();
+        if (rolledTo >= today) {
+            return;
+        }
+        List<Long> due = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            if (rolledTo >= today) {
+                return;
+            }
+            while (!alive.isEmpty() && alive.first()[0] < today - 1) {
+                long[] e = alive.pollFirst();
+                streaks.put(e[1], 0);
+            }
+            for (long[] e : future.headSet(new long[] { today, Long.MAX_VALUE }, true)) {
+                due.add(e[1]);
+            }
+            rolledTo = today;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (Long idx : due) {
+            update(idx, store.get(idx));
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void apply(Long customerIdx, Standing s, long today) {
+        Standing prev = standings.put(customerIdx, s);
+        if (prev != null) {
+            alive.remove(new long[] { prev.runEnd(), customerIdx });
+            future.remove(new long[] { prev.nextFuture(), customerIdx });
+        }
+        int streak = s.streakOn(today);
+        if (streak > 0) {
+            alive.add(new long[] { s.runEnd(), customerIdx });
+        }
+        if (s.nextFuture() != Long.MAX_VALUE) {
+            future.add(new long[] { s.nextFuture(), customerIdx });
+        }
+        streaks.put(customerIdx, streak);
+        coins.put(customerIdx, s.coins());
+    }
+
+    private void remove(Long customerIdx) {
+        Standing prev = standings.remove(customerIdx);
+        if (prev != null) {
+            alive.remove(new long[] { prev.runEnd(), customerIdx });
+            future.remove(new long[] { prev.nextFuture(), customerIdx });
+            streaks.remove(customerIdx);
+            coins.remove(customerIdx);
+        }
+    }
+
+    private Board board(Metric metric) {
+        return metric == Metric.COINS ? coins : streaks;
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * 지표 하나의 순위표 (잠금은 바깥에서)
+     *
+     * order: (점수 내림차순, 고객 번호) 정렬 → 상위 N 과 주변 구간
+     * counts: 점수별 인원 Fenwick 트리 → 나보다 점수 높은 인원 = 순위 - 1
+     */
+    static final class Board {
+
+        private static final Comparator<long[]> ORDER =
+                Comparator.<long[]>comparingLong(e -> -e[1]).thenComparingLong(e -> e[0]);
+
+        private final TreeSet<long[]> order = new TreeSet<>(ORDER);
+        private final Map<Long, Integer> scores = new HashMap<>();
+        private int[] counts = new int[64];
+
+        void put(Long idx, int score) {
+            // 점수 범위부터 맞춰 둠 (다시 만들 때는 바뀌기 전 scores 기준)
+            if (score + 1 >= counts.length) {
+                grow(score + 2);
+            }
+            Integer prev = scores.put(idx, score);
+            if (prev != null) {
+                if (prev == score) {
+                    return;
+                }
+                order.remove(new long[] { idx, prev });
+                add(prev, -1);
+            }
+            order.add(new long[] { idx, score });
+            add(score, 1);
+        }
+
+        void remove(Long idx) {
+            Integer prev = scores.remove(idx);
+            if (prev != null) {
+                order.remove(new long[] { idx, prev });
+                add(prev, -1);
+            }
+        }
+
+        List<Row> top(int limit) {
+            List<Row> out = new ArrayList<>(Math.min(limit, order.size()));
+            int rank = 0;
+            long prevScore = Long.MIN_VALUE;
+            for (Iterator<long[]> it = order.iterator(); it.hasNext() && out.size() < limit;) {
+                long[] e = it.next();
+                if (e[1] != prevScore) {
+                    rank = out.size() + 1;
+                    prevScore = e[1];
+                }
+                out.add(new Row(rank, e[0], (int) e[1]));
+            }
+            return out;
+        }
+
+        Row row(Long idx) {
+            Integer score = idx == null ? null : scores.get(idx);
+            return score == null ? null : new Row(higherThan(score) + 1, idx, score);
+        }
+
+        List<Row> around(Long idx, int radius) {
+            Row me = row(idx);
+            if (me == null) {
+                return List.of();
+            }
+            long[] key = { idx, me.score() };
+            List<Row> out = new ArrayList<>(radius * 2 + 1);
+            Iterator<long[]> up = order.headSet(key, false).descendingIterator();
+            for (int i = 0; i < radius && up.hasNext(); i++) {
+                out.add(row(up.next()));
+            }
+            Collections.reverse(out);
+            out.add(me);
+            Iterator<long[]> down = order.tailSet(key, false).iterator();
+            for (int i = 0; i < radius && down.hasNext(); i++) {
+                out.add(row(down.next()));
+            }
+            return out;
+        }
+
+        private Row row(long[] e) {
+            return new Row(higherThan((int) e[1]) + 1, e[0], (int) e[1]);
+        }
+
+        // score 보다 높은 점수 인원
+        private int higherThan(int score) {
+            return scores.size() - prefix(score);
+        }
+
+        // 점수 0..score 인원
+        private int prefix(int score) {
+            int sum = 0;
+            for (int i = score + 1; i > 0; i -= i & -i) {
+                sum += counts[i];
+            }
+            return sum;
+        }
+
+        private void add(int score, int delta) {
+            for (int i = score + 1; i < counts.length; i += i & -i) {
+                counts[i] += delta;
+            }
+        }
+
+        // 점수 범위가 넘치면 두 배 크기로 다시 만듦 (드묾)
+        private void grow(int min) {
+            int size = counts.length;
+            while (size < min) {
+                size *= 2;
+            }
+            counts = new int[size];
+            for (int score : scores.values()) {
+                add(score, 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.health_care.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출석 체크인/상태 집계
+ *
+ * - 체크인 MERGE 와 같은 트랜잭션에서 attendance_summary 행을 갱신 (행 잠금으로 같은 고객 동시 체크인 직렬화)
+ * - 상태 조회는 summary 행 하나(PK)만 읽음 → 가입 기간이 길어져도 비용 일정
+ * - summary 가 없거나(기존 고객) 미래 날짜 출석이 있으면 출석 비트맵으로 계산 (오늘 이후 날짜는 세지 않음, 랭킹과 같은 기준)
+ * attendance_summary 테이블이 아직 없으면(db/attendanceSummary.sql 미실행) 비트맵 계산으로만 동작합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AttendanceService {
+
+    private static final String MERGE_LOG =
+            "MERGE INTO attendance_log t " +
+            "USING (SELECT ? AS customer_id, ? AS record_date FROM dual) s " +
+            "ON (t.customer_id = s.customer_id AND t.record_date = s.record_date) " +
+            "WHEN NOT MATCHED THEN INSERT (customer_id, record_date) VALUES (s.customer_id, s.record_date)";
+
+    private static final String SELECT_SUMMARY =
+            "SELECT first_date, last_date, total_days, streak, month_key, month_days, month_streak, perfect_months "
+                    + "FROM attendance_summary WHERE customer_id = ?";
+
+    private final JdbcTemplate jdbc;
+    private final AttendanceStore store;
+
+    @Value("${attendance.sync.max-days:366}")
+    private int syncMaxDays;
+
+    @Value("${attendance.sync.batch-size:100}")
+    private int syncBatchSize;
+
+    private volatile boolean summaryAvailable = true;
+
+    // 출석 기록 (새로 추가됐으면 true), 캐시 비트맵 반영은 커밋 후 호출 쪽에서
+    @Transactional
+    public boolean checkin(Long customerId, LocalDate day) {
+        lockCustomer(customerId);
+        int inserted = jdbc.update(MERGE_LOG,
+            ps -> {
+                ps.setLong(1, customerId);
+                ps.setDate(2, Date.valueOf(day));
+            }
+        );
+        if (inserted > 0 && summaryAvailable) {
+            try {
+                updateSummary(customerId, day);
+            } catch (BadSqlGrammarException e) {
+                disableSummary(e);
+            }
+        }
+        return inserted > 0;
+    }
+
+    // 여러 날짜를 한 트랜잭션에서 batch MERGE 후 집계를 한 번만 다시 계산, 반영한 날짜(중복 제거, 오름차순) 반환
+    @Transactional
+    public List<LocalDate> sync(Long customerId, Collection<LocalDate> days) {
+        List<LocalDate> sorted = new ArrayList<>(new TreeSet<>(days));
+        if (sorted.isEmpty()) {
+            return sorted;
+        }
+        lockCustomer(customerId);
+        boolean summary = summaryAvailable;
+        jdbc.batchUpdate(MERGE_LOG, sorted, Math.max(1, syncBatchSize), (ps, day) -> {
+            ps.setLong(1, customerId);
+            ps.setDate(2, Date.valueOf(day));
+        });
+        if (summary) {
+            try {
+                AttendanceSummary next = AttendanceSummary.of(store.loadFromDb(customerId));
+                if (next != null) {
+                    upsertSummary(customerId, next);
+                }
+            } catch (BadSqlGrammarException e) {
+                disableSummary(e);
+            }
+        }
+        return sorted;
+    }
+
+    public int syncMaxDays() {
+        return Math.max(1, syncMaxDays);
+    }
+
+    // /api/attendance/status 응답
+    public Map<String, Object> status(Long customerId, LocalDate today) {
+        AttendanceSummary summary = null;
+        if (customerId != null && summaryAvailable) {
+            try {
+                summary = readSummary(customerId, false);
+                if (summary == null) {
+                    // 기존 고객: 이력으로 한 번 계산해서 저장 (이후로는 체크인마다 갱신)
+                    summary = AttendanceSummary.of(store.get(customerId));
+                    if (summary != null) {
+                        insertSummaryIfAbsent(customerId, summary);
+                    }
+                }
+            } catch (BadSqlGrammarException e) {
+                disableSummary(e);
+                summary = null;
+            }
+        }
+        if (summary != null && !summary.lastDate().isAfter(today)) {
+            return fromSummary(summary, today);
+        }
+        return fromBitmap(customerId, store.get(customerId), today);
+    }
+
+    /** 가입 시점(첫 body 기록일) */
+    public LocalDate accountCreated(LocalDate fallbackToday, Long customerId) {
+        if (customerId == null) return fallbackToday;
+        Date d = jdbc.queryForObject(
+                "SELECT MIN(record_date) FROM body WHERE customer_id = ?",
+                Date.class, customerId
+        );
+        return d != null ? d.toLocalDate() : fallbackToday;
+    }
+
+    // 같은 고객의 체크인/일괄 반영을 직렬화 (집계 행이 아직 없을 때도 잠글 수 있도록 고객 행을 잠금)
+    private void lockCustomer(Long customerId) {
+        jdbc.queryForList("SELECT idx FROM customers WHERE idx = ? FOR UPDATE", Long.class, customerId);
+    }
+
+    private void updateSummary(Long customerId, LocalDate day) {
+        AttendanceSummary current = readSummary(customerId, true);
+        AttendanceSummary next;
+        if (current != null && day.isAfter(current.lastDate())) {
+            next = current.plus(day);
+        } else {
+            // 첫 집계이거나 소급 체크인 → 이력 전체로 다시 계산 (같은 트랜잭션에서 DB 기준)
+            next = AttendanceSummary.of(store.loadFromDb(customerId));
+        }
+        if (next != null) {
+            upsertSummary(customerId, next);
+        }
+    }
+
+    private AttendanceSummary readSummary(Long customerId, boolean forUpdate) {
+        try {
+            return jdbc.queryForObject(forUpdate ? SELECT_SUMMARY + " FOR UPDATE" : SELECT_SUMMARY,
+                    (rs, i) -> new AttendanceSummary(
+                            rs.getDate(1).toLocalDate(),
+                            rs.getDate(2).toLocalDate(),
+                            rs.getInt(3),
+                            rs.getInt(4),
+                            YearMonth.parse(rs.getString(5)),
+                            rs.getInt(6),
+                            rs.getInt(7),
+                            AttendanceSummary.parsePerfectMonths(rs.getString(8))),
+                    customerId);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+    }
+
+    private void upsertSummary(Long customerId, AttendanceSummary s) {
+        try {
+            mergeSummary(customerId, s);
+        } catch (DuplicateKeyException e) {
+            // 조회 경로의 지연 생성이 먼저 넣은 경우 → 이제 있는 행이므로 다시 MERGE 하면 갱신됨
+            mergeSummary(customerId, s);
+        }
+    }
+
+    private void mergeSummary(Long customerId, AttendanceSummary s) {
+        jdbc.update(
+            "MERGE INTO attendance_summary t " +
+            "USING (SELECT ? AS customer_id FROM dual) src ON (t.customer_id = src.customer_id) " +
+            "WHEN MATCHED THEN UPDATE SET first_date = ?, last_date = ?, total_days = ?, streak = ?, " +
+            "  month_key = ?, month_days = ?, month_streak = ?, perfect_months = ?, updated_at = SYSTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (customer_id, first_date, last_date, total_days, streak, " +
+            "  month_key, month_days, month_streak, perfect_months, updated_at) " +
+            "  VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, SYSTIMESTAMP)",
+            ps -> {
+                ps.setLong(1, customerId);
+                bindSummary(ps, 2, s);
+                ps.setLong(10, customerId);
+                bindSummary(ps, 11, s);
+            }
+        );
+    }
+
+    // 조회 경로의 지연 생성은 이미 있는 행(체크인이 쓴 최신 값)을 덮어쓰지 않음
+    // 동시에 체크인이 행을 만들었으면 (ORA-00001) 그쪽 값을 그대로 둠
+    private void insertSummaryIfAbsent(Long customerId, AttendanceSummary s) {
+        try {
+            jdbc.update(
+                "MERGE INTO attendance_summary t " +
+                "USING (SELECT ? AS customer_id FROM dual) src ON (t.customer_id = src.customer_id) " +
+                "WHEN NOT MATCHED THEN INSERT (customer_id, first_date, last_date, total_days, streak, " +
+                "  month_key, month_days, month_streak, perfect_months, updated_at) " +
+                "  VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, SYSTIMESTAMP)",
+                ps -> {
+                    ps.setLong(1, customerId);
+                    ps.setLong(2, customerId);
+                    bindSummary(ps, 3, s);
+                }
+            );
+        } catch (DuplicateKeyException e) {
+            log.debug("[ATTENDANCE] summary for {} created concurrently", customerId);
+        }
+    }
+
+    private static void bindSummary(PreparedStatement ps, int at, AttendanceSummary s) throws SQLException {
+        ps.setDate(at, Date.valueOf(s.firstDate()));
+        ps.setDate(at + 1, Date.valueOf(s.lastDate()));
+        ps.setInt(at + 2, s.totalDays());
+        ps.setInt(at + 3, s.streak());
+        ps.setString(at + 4, s.month().toString());
+        ps.setInt(at + 5, s.monthDays());
+        ps.setInt(at + 6, s.monthStreak());
+        ps.setString(at + 7, s.perfectMonthsText());
+    }
+
+    private void disableSummary(DataAccessException e) {
+        if (summaryAvailable) {
+            summaryAvailable = false;
+            log.warn("[ATTENDANCE] attendance_summary unavailable, computing status from history - {}",
+                    e.getMessage());
+        }
+    }
+
+    // 집계 행으로 상태 계산 (lastDate <= today 일 때만)
+    private Map<String, Object> fromSummary(AttendanceSummary s, LocalDate today) {
+        final YearMonth ymNow = YearMonth.from(today);
+        final boolean thisMonth = s.month().equals(ymNow);
+        final boolean attendedToday = s.lastDate().equals(today);
+
+        int currentStreak = attendedToday || s.lastDate().equals(today.minusDays(1)) ? s.streak() : 0;
+        int coins = AttendanceAnalytics.coins(s.totalDays(), s.perfectMonths().size());
+
+        int todayCoins = 0;
+        if (attendedToday) {
+            todayCoins = AttendanceAnalytics.todayCoins(s.totalDays(),
+                    s.perfectMonths().contains(ymNow) && today.getDayOfMonth() == ymNow.lengthOfMonth());
+        }
+        return statusMap(s.firstDate(), s.lastDate(), s.totalDays(), currentStreak, ymNow,
+                thisMonth ? s.monthStreak() : 0, thisMonth ? s.monthDays() : 0, coins, todayCoins);
+    }
+
+    // 출석 이력으로 상태 계산 (집계 행이 없거나 미래 날짜가 있을 때), 한 번 순회
+    private Map<String, Object> fromBitmap(Long customerId, AttendanceBitmap days, LocalDate today) {
+        AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(
+                AttendanceAnalytics.upTo(days.toEpochDays(), today), today);
+        if (r.isEmpty()) {
+            LocalDate created = accountCreated(today, customerId);
+            return statusMap(created, created, 0, 0, YearMonth.from(today), 0, 0, 0, 0);
+        }
+        return statusMap(r.firstDate(), r.lastDate(), r.totalDays(), r.currentStreak(), YearMonth.from(today),
+                r.monthStreak(), r.monthDays(), r.coins(), r.todayCoins());
+    }
+
+    private static Map<String, Object> statusMap(LocalDate firstDate, LocalDate lastDate, int totalDays,
+            int currentStreak, YearMonth ymNow, int monthStreak, int monthDays, int coins, int todayCoins) {
+        Map<String, Object> out = new HashMap<>();
+        out.put("firstDate", firstDate.toString());
+        out.put("lastDate",  lastDate.toString());
+        out.put("totalDays", totalDays);
+        out.put("currentStreak", currentStreak);
+        out.put("monthKey", ymNow.toString());
+        out.put("monthStreak", monthStreak);
+        out.put("monthDays", monthDays);
+        out.put("coins", coins);
+        out.put("todayCoins", todayCoins);
+        return out;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 고객별 출석 비트맵 캐시
+ *
+ * - attendance_log 는 그대로 원본으로 두고, 고객별로 한 번만 읽어 비트맵으로 보관
+ * - 체크인하면 캐시에 있는 비트맵에 그 날짜만 추가 (없으면 다음 조회 때 새로 읽음)
+ * - DB 를 읽는 사이 체크인이 있었으면 (체크인 시각 기록으로 판단) 읽은 비트맵은 캐시하지 않음
+ * - 다른 서버의 체크인은 ttl-ms 가 지나 다시 읽을 때 반영
+ * - max-size 를 넘으면 임의 항목을 10% 정도 비움
+ */
+@Component
+public class AttendanceStore {
+
+    private final JdbcTemplate jdbc;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<Long, Entry> bitmaps = new ConcurrentHashMap<>();
+    // 고객별 마지막 체크인 반영 시각 (nanoTime), 읽기 시작 이후 값이 있으면 그 읽기는 낡은 것
+    private final Map<Long, Long> lastWrite = new ConcurrentHashMap<>();
+
+    private record Entry(AttendanceBitmap bitmap, long loadedAt) {
+    }
+
+    public AttendanceStore(JdbcTemplate jdbc, MeterRegistry registry,
+            @Value("${attendance.cache.max-size:20000}") int maxSize,
+            @Value("${attendance.cache.ttl-ms:300000}") long ttlMillis) {
+        this.jdbc = jdbc;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ttlMillis));
+        Gauge.builder("attendance.cache.size", bitmaps, Map::size)
+                .description("메모리에 보관 중인 출석 비트맵 수").register(registry);
+    }
+
+    // 고객 출석 비트맵 (없는 고객이면 EMPTY)
+    public AttendanceBitmap get(Long customerIdx) {
+        if (customerIdx == null) {
+            return AttendanceBitmap.EMPTY;
+        }
+        Entry cached = bitmaps.get(customerIdx);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+            return cached.bitmap();
+        }
+        long start = System.nanoTime();
+        AttendanceBitmap loaded = loadFromDb(customerIdx);
+        if (bitmaps.size() >= maxSize) {
+            evictSome();
+        }
+        Entry entry = new Entry(loaded, start);
+        if (cached != null) {
+            bitmaps.replace(customerIdx, cached, entry);
+        } else {
+            bitmaps.putIfAbsent(customerIdx, entry);
+        }
+        // 넣은 뒤에 확인: 읽기 시작 이후 체크인이 있었으면 (markAttended 가 이 항목을 못 봤을 수 있음) 버림
+        Long written = lastWrite.get(customerIdx);
+        if (written != null && written - start >= 0) {
+            bitmaps.remove(customerIdx, entry);
+        }
+        return loaded;
+    }
+
+    // 체크인(MERGE) 커밋 후 호출: 시각을 먼저 남기고, 캐시에 있으면 그 날짜 비트만 켬
+    public void markAttended(Long customerIdx, LocalDate day) {
+        lastWrite.put(customerIdx, System.nanoTime());
+        bitmaps.computeIfPresent(customerIdx, (k, e) -> new Entry(e.bitmap().with(day), e.loadedAt()));
+    }
+
+    public void markAttended(Long customerIdx, Collection<LocalDate> days) {
+        lastWrite.put(customerIdx, System.nanoTime());
+        bitmaps.computeIfPresent(customerIdx, (k, e) -> {
+            AttendanceBitmap b = e.bitmap();
+            for (LocalDate day : days) {
+                b = b.with(day);
+            }
+            return new Entry(b, e.loadedAt());
+        });
+    }
+
+    public void evict(Long customerIdx) {
+        bitmaps.remove(customerIdx);
+    }
+
+    // 만료된 비트맵과, 진행 중인 읽기보다 확실히 오래된 체크인 시각 정리
+    @Scheduled(fixedDelayString = "${attendance.cache.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        bitmaps.values().removeIf(e -> now - e.loadedAt() >= ttlNanos);
+        lastWrite.values().removeIf(t -> now - t >= ttlNanos);
+    }
+
+    // 캐시를 거치지 않고 attendance_log 에서 바로 읽음 (트랜잭션 안 재계산용)
+    public AttendanceBitmap loadFromDb(Long customerIdx) {
+        List<LocalDate> days = jdbc.query(
+                "SELECT record_date FROM attendance_log WHERE customer_id = ?",
+                (rs, i) -> rs.getDate(1).toLocalDate(),
+                customerIdx);
+        return AttendanceBitmap.of(days);
+    }
+
+    private void evictSome() {
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<Long> it = bitmaps.keySet().iterator();
+        while (bitmaps.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.health_care.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * attendance_summary 한 행 (고객별 누적 출석 집계)
+ *
+ * streak 은 lastDate 에서 끝나는 연속 출석, monthStreak 은 month 1일부터 이어진 연속 출석.
+ * 마지막 출석일 이후 날짜의 체크인은 plus 로 바로 반영하고, 그 이전 날짜(소급)는 전체 재계산합니다.
+ */
+public record AttendanceSummary(
+        LocalDate firstDate,
+        LocalDate lastDate,
+        int totalDays,
+        int streak,
+        YearMonth month,
+        int monthDays,
+        int monthStreak,
+        SortedSet<YearMonth> perfectMonths) {
+
+    // 출석 이력 전체로 계산 (행이 없거나 소급 체크인일 때), 마지막 출석일 기준 한 번 순회
+    public static AttendanceSummary of(AttendanceBitmap days) {
+        if (days.isEmpty()) {
+            return null;
+        }
+        LocalDate last = days.last();
+        AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(days, last);
+        YearMonth month = YearMonth.from(last);
+        return new AttendanceSummary(r.firstDate(), last, r.totalDays(), r.currentStreak(), month,
+                r.monthDays(), r.monthStreak(), new TreeSet<>(r.perfectMonths(month)));
+    }
+
+    // lastDate 이후 날짜 하나를 더한 집계
+    public AttendanceSummary plus(LocalDate day) {
+        if (!day.isAfter(lastDate)) {
+            throw new IllegalArgumentException("lastDate 이후 날짜만 더할 수 있습니다: " + day);
+        }
+        int nextStreak = day.equals(lastDate.plusDays(1)) ? streak + 1 : 1;
+        YearMonth ym = YearMonth.from(day);
+        int nextMonthDays;
+        int nextMonthStreak;
+        if (ym.equals(month)) {
+            nextMonthDays = monthDays + 1;
+            // 1일부터 어제까지 빠짐없이 출석했을 때만 이어짐
+            nextMonthStreak = monthStreak == day.getDayOfMonth() - 1 ? monthStreak + 1 : monthStreak;
+        } else {
+            nextMonthDays = 1;
+            nextMonthStreak = day.getDayOfMonth() == 1 ? 1 : 0;
+        }
+        SortedSet<YearMonth> perfect = perfectMonths;
+        if (nextMonthDays == ym.lengthOfMonth()) {
+            perfect = new TreeSet<>(perfectMonths);
+            perfect.add(ym);
+        }
+        return new AttendanceSummary(firstDate, day, totalDays + 1, nextStreak, ym,
+                nextMonthDays, nextMonthStreak, perfect);
+    }
+
+    // "2024-01,2024-03" 형태 (perfect_months 컬럼)
+    public String perfectMonthsText() {
+        return String.join(",", perfectMonths.stream().map(YearMonth::toString).toList());
+    }
+
+    public static SortedSet<YearMonth> parsePerfectMonths(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptySortedSet();
+        }
+        SortedSet<YearMonth> out = new TreeSet<>();
+        for (String part : text.split(",")) {
+            if (!part.isBlank()) {
+                out.add(YearMonth.parse(part.trim()));
+            }
+        }
+        return out;
+    }
+}
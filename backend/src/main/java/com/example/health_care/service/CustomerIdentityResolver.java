@@ -0,0 +1,109 @@
+package com.example.health_care.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 고객 id(이메일) ↔ 고객 번호(idx) 변환 캐시
+ *
+ * - 서비스/컨트롤러는 idx 만 필요할 때 customers 행 전체를 읽지 않고 여기서 변환
+ * - 로그인/가입/토큰 claims 에서 이미 아는 값은 remember 로 미리 넣어 두어 조회 자체를 생략
+ * - 없는 id 는 캐시하지 않음 (가입 직후 바로 보이도록)
+ * 크기가 max-size 를 넘으면 임의 항목을 10% 정도 비우고, 계정 정보가 바뀌면 evict 합니다.
+ */
+@Component
+public class CustomerIdentityResolver {
+
+    private final JdbcTemplate jdbc;
+    private final int maxSize;
+
+    private final Map<String, Long> idxById = new ConcurrentHashMap<>();
+    private final Map<Long, String> idById = new ConcurrentHashMap<>();
+
+    public CustomerIdentityResolver(JdbcTemplate jdbc, MeterRegistry registry,
+            @Value("${identity.cache.max-size:50000}") int maxSize) {
+        this.jdbc = jdbc;
+        this.maxSize = Math.max(1, maxSize);
+        Gauge.builder("identity.cache.size", idxById, Map::size)
+                .description("id → idx 캐시 항목 수").register(registry);
+    }
+
+    // 고객 번호, 없는 id 면 null
+    public Long idxOf(String id) {
+        if (id == null || id.isBlank()) {
+            return null;
+        }
+        Long idx = idxById.get(id);
+        if (idx != null) {
+            return idx;
+        }
+        try {
+            idx = jdbc.queryForObject("SELECT idx FROM customers WHERE id = ?", Long.class, id);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+        remember(id, idx);
+        return idx;
+    }
+
+    // 고객 id(이메일), 없는 번호면 null
+    public String idOf(Long idx) {
+        if (idx == null) {
+            return null;
+        }
+        String id = idById.get(idx);
+        if (id != null) {
+            return id;
+        }
+        try {
+            id = jdbc.queryForObject("SELECT id FROM customers WHERE idx = ?", String.class, idx);
+        } catch (EmptyResultDataAccessException e) {
+            return null;
+        }
+        remember(id, idx);
+        return id;
+    }
+
+    // 이미 알고 있는 매핑 등록 (같은 값이면 쓰기 없이 반환)
+    public void remember(String id, Long idx) {
+        if (id == null || idx == null || idx.equals(idxById.get(id))) {
+            return;
+        }
+        if (idxById.size() >= maxSize) {
+            evictSome();
+        }
+        idxById.put(id, idx);
+        idById.put(idx, id);
+    }
+
+    // 계정 정보가 바뀌거나 삭제되면 제거
+    public void evict(String id) {
+        Long idx = idxById.remove(id);
+        if (idx != null) {
+            idById.remove(idx, id);
+        }
+    }
+
+    public int size() {
+        return idxById.size();
+    }
+
+    private void evictSome() {
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<Map.Entry<String, Long>> it = idxById.entrySet().iterator();
+        while (idxById.size() > target && it.hasNext()) {
+            Map.Entry<String, Long> e = it.next();
+            it.remove();
+            idById.remove(e.getValue(), e.getKey());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.health_care.service;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,6 +27,8 @@ import com.example.health_care.repository.BodyRepository;
 import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.GoalRepository;
 import com.example.health_care.repository.RecordRepository;
+import com.example.health_care.security.CustomerPrincipal;
+import com.example.health_care.security.UserDetailsCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,13 +36,20 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 @Service
-public class CustomersService implements UserDetailsService {
+public class CustomersService implements UserDetailsService, UserDetailsPasswordService {
 
         private final CustomersRepository customersRepository;
         private final PasswordEncoder passwordEncoder;
         private final BodyRepository bodyRepository;
         private final GoalRepository goalRepository;
         private final RecordRepository recordRepository;
+        private final CustomerIdentityResolver identity;
+        // UserDetailsCache 가 이 서비스(UserDetailsService)에 의존하므로 순환을 피해 필요할 때 꺼내 씀
+        private final ObjectProvider<UserDetailsCache> userDetailsCache;
+
+        // 관리자 계정 id 목록 (쉼표 구분), 관리자 전용 작업(식품 DB 적재 등)에 ROLE_ADMIN 부여
+        @Value("${auth.admin-ids:}")
+        private List<String> adminIds;
 
         @Transactional
         public CustomersEntity signup(SignupRequest req) {
@@ -66,6 +80,7 @@ public class CustomersService implements UserDetailsService {
                                 .build();
 
                 bodyRepository.save(bodyEntity);
+                identity.remember(savedUser.getId(), savedUser.getIdx());
 
                 return savedUser;
         }
@@ -73,13 +88,26 @@ public class CustomersService implements UserDetailsService {
         public UserDetails loadUserByUsername(String id) throws UsernameNotFoundException {
                 CustomersEntity user = customersRepository.findById(id)
                                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + id));
+                identity.remember(user.getId(), user.getIdx());
 
-                return org.springframework.security.core.userdetails.User.builder()
-                                .username(user.getId())
-                                .password(user.getPassword())
-                                .roles("USER")
-                                .build();
+                // 토큰 claims 로 다시 만들 수 있도록 고객 번호(idx)를 함께 담음
+                List<SimpleGrantedAuthority> roles = adminIds != null && adminIds.contains(user.getId())
+                                ? List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))
+                                : List.of(new SimpleGrantedAuthority("ROLE_USER"));
+                return new CustomerPrincipal(user.getId(), user.getPassword(), roles, user.getIdx());
+        }
+        // 로그인 성공 시 저장된 해시의 BCrypt 비용이 현재 설정과 다르면 스프링 시큐리티가 호출 (이미 인코딩된 값)
+        @Override
+        @Transactional
+        public UserDetails updatePassword(UserDetails user, String newEncodedPassword) {
+                CustomersEntity customer = customersRepository.findById(user.getUsername())
+                                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + user.getUsername()));
+                customer.setPassword(newEncodedPassword);
+                customersRepository.save(customer);
+                log.debug("[AUTH] password rehashed for id={}", customer.getId());
+                return new CustomerPrincipal(customer.getId(), newEncodedPassword, user.getAuthorities(), customer.getIdx());
         }
+
         @Transactional(readOnly = true)
         public CustomersProfileDTO getCustomerProfile(String customerId) {
                 // 1. 고객 기본 정보 조회
@@ -103,9 +131,12 @@ public class CustomersService implements UserDetailsService {
 
         @Transactional
         public void saveBodyInfo(String customerId, BodyRequest bodyRequest) {
-                // 1. customerId로 고객 엔티티를 찾음
-                CustomersEntity customer = customersRepository.findById(customerId)
-                                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+                // 1. customerId → idx 변환 후 고객 엔티티는 참조만 (FK 용, 조회 없음)
+                Long customerIdx = identity.idxOf(customerId);
+                if (customerIdx == null) {
+                        throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+                }
+                CustomersEntity customer = customersRepository.getReferenceById(customerIdx);
 
                 // 2. BodyRequest DTO를 BodyEntity로 변환
                 BodyEntity bodyEntity = BodyEntity.builder()
@@ -142,6 +173,8 @@ public class CustomersService implements UserDetailsService {
                 }
 
                 customersRepository.save(customer);
+                identity.evict(customerId);
+                userDetailsCache.ifAvailable(cache -> cache.evict(customerId));
 
                 // 3. 목표 정보가 DTO에 포함된 경우
                 if (req.getTargetWeight() != null || req.getTargetCalories() != null) {
@@ -189,5 +222,7 @@ public class CustomersService implements UserDetailsService {
                                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다 : " + customerId));
                 user.setPassword(passwordEncoder.encode(newPassword));
                 customersRepository.save(user);
+                identity.evict(customerId);
+                userDetailsCache.ifAvailable(cache -> cache.evict(customerId));
         }
 }
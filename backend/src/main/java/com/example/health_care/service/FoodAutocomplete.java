@@ -0,0 +1,353 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.health_care.dto.FoodDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식품명 자동완성 (메모리 접두어 트라이)
+ *
+ * - 이름을 소문자 + 공백 제거 + 한글 자모 분해(겹받침/이중모음까지)한 키로 트라이를 만듦
+ *   → "김ㅂ", "김바" 처럼 입력 중인 글자도 "김밥" 의 접두어로 일치
+ * - 노드마다 상위 N 개 식품 번호를 미리 계산해 두어 조회는 접두어 길이만큼만 걸림
+ * - 트라이는 불변 스냅샷이고, 새 이름이 들어오면 주기적으로 백그라운드에서 다시 만들어 교체
+ */
+@Slf4j
+@Component
+public class FoodAutocomplete {
+
+    private final JdbcTemplate jdbc;
+    private final int maxResults;
+    private final int maxNames;
+
+    // 표시 이름 → 열량 (열량 없음은 NaN)
+    private final Map<String, Double> known = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private volatile Trie trie = Trie.EMPTY;
+
+    public FoodAutocomplete(JdbcTemplate jdbc,
+            @Value("${nutri.autocomplete.max-results:10}") int maxResults,
+            @Value("${nutri.autocomplete.max-names:200000}") int maxNames) {
+        this.jdbc = jdbc;
+        this.maxResults = Math.max(1, maxResults);
+        this.maxNames = Math.max(1, maxNames);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(() -> {
+            loadFromTable();
+            rebuildIfDirty();
+        }, "food-autocomplete-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public void loadFromTable() {
+        try {
+            jdbc.query("SELECT food_name, calories FROM food_info", rs -> {
+                String name = rs.getString(1);
+                int kcal = rs.getInt(2);
+                add(name, rs.wasNull() ? null : (double) kcal);
+            });
+        } catch (Exception e) {
+            log.warn("[FOOD-AUTOCOMPLETE] initial load failed - {}", e.getMessage());
+        }
+    }
+
+    public void addAll(Iterable<FoodDTO> items) {
+        for (FoodDTO dto : items) {
+            add(dto.getFoodNm(), dto.getEnerc());
+        }
+    }
+
+    // 새 이름(또는 열량 변경)이면 다음 재구성 때 반영
+    public void add(String name, Double kcal) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String display = name.trim();
+        Double value = kcal == null ? Double.NaN : kcal;
+        if (known.size() >= maxNames && !known.containsKey(display)) {
+            return;
+        }
+        Double prev = known.put(display, value);
+        if (prev == null || !prev.equals(value)) {
+            dirty.set(true);
+        }
+    }
+
+    // 변경이 있을 때만 트라이를 새로 만들어 교체 (조회는 이전 스냅샷으로 계속 처리)
+    @Scheduled(fixedDelayString = "${nutri.autocomplete.rebuild-interval-ms:30000}")
+    public void rebuildIfDirty() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Trie next = Trie.build(new HashMap<>(known), maxResults);
+        trie = next;
+        log.info("[FOOD-AUTOCOMPLETE] rebuilt {} names / {} nodes in {} ms",
+                next.names.length, next.nodeCount, System.currentTimeMillis() - start);
+    }
+
+    // 접두어로 시작하는 식품 최대 limit 개 (짧은 이름 우선)
+    public List<FoodDTO> complete(String prefix, int limit) {
+        String key = normalize(prefix == null ? "" : prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return trie.complete(key, Math.min(limit, maxResults));
+    }
+
+    public int size() {
+        return trie.names.length;
+    }
+
+    // 소문자 + 공백 제거 + 자모 분해
+    static String normalize(String name) {
+        String s = name.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                HangulJamo.append(sb, c, true);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 배열 기반 불변 트라이
+     *
+     * 한 노드의 자식은 연속된 번호로 배치되고 글자 오름차순이라 이진 탐색으로 찾음.
+     * 식품 번호는 (이름 길이, 키) 순위대로 매기므로 "상위 N" = "하위 트리에서 가장 작은 번호 N 개".
+     * 종단이 아니고 자식이 하나뿐인 노드는 자식의 상위 목록을 그대로 공유해 메모리를 아낌.
+     */
+    static final class Trie {
+
+        static final Trie EMPTY = build(Map.of(), 1);
+
+        final String[] names;
+        final double[] kcals;
+        final int nodeCount;
+
+        private final char[] label;
+        private final int[] firstChild;
+        private final int[] childCount;
+        private final int[] topStart;
+        private final int[] topLen;
+        private final int[] tops;
+
+        private Trie(String[] names, double[] kcals, int nodeCount, char[] label, int[] firstChild,
+                int[] childCount, int[] topStart, int[] topLen, int[] tops) {
+            this.names = names;
+            this.kcals = kcals;
+            this.nodeCount = nodeCount;
+            this.label = label;
+            this.firstChild = firstChild;
+            this.childCount = childCount;
+            this.topStart = topStart;
+            this.topLen = topLen;
+            this.tops = tops;
+        }
+
+        List<FoodDTO> complete(String key, int limit) {
+            int node = 0;
+            for (int i = 0; i < key.length() && node >= 0; i++) {
+                node = child(node, key.charAt(i));
+            }
+            if (node < 0) {
+                return List.of();
+            }
+            int n = Math.min(limit, topLen[node]);
+            List<FoodDTO> out = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int id = tops[topStart[node] + i];
+                double kcal = kcals[id];
+                out.add(FoodDTO.builder().foodNm(names[id]).enerc(Double.isNaN(kcal) ? null : kcal).build());
+            }
+            return out;
+        }
+
+        private int child(int node, char c) {
+            int lo = firstChild[node];
+            int hi = lo + childCount[node] - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (label[mid] < c) {
+                    lo = mid + 1;
+                } else if (label[mid] > c) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        static Trie build(Map<String, Double> source, int maxResults) {
+            // 정규화 키가 같은 이름은 하나만 (짧은 이름 우선)
+            Map<String, Doc> byKey = new HashMap<>(source.size() * 2);
+            for (Map.Entry<String, Double> e : source.entrySet()) {
+                String key = normalize(e.getKey());
+                if (!key.isEmpty()) {
+                    byKey.merge(key, new Doc(key, e.getKey(), e.getValue()),
+                            (a, b) -> a.name.length() <= b.name.length() ? a : b);
+                }
+            }
+
+            // 순위대로 식품 번호 부여
+            Doc[] ranked = byKey.values().toArray(new Doc[0]);
+            Arrays.sort(ranked, Comparator.comparingInt((Doc d) -> d.name.length()).thenComparing(d -> d.key));
+            int docs = ranked.length;
+            String[] names = new String[docs];
+            double[] kcals = new double[docs];
+            long chars = 1;
+            for (int id = 0; id < docs; id++) {
+                ranked[id].id = id;
+                names[id] = ranked[id].name;
+                kcals[id] = ranked[id].kcal;
+                chars += ranked[id].key.length();
+            }
+
+            // 사전순으로 정렬한 키 범위를 재귀적으로 나누며 노드 생성
+            Doc[] sorted = ranked.clone();
+            Arrays.sort(sorted, Comparator.comparing(d -> d.key));
+            String[] keys = new String[docs];
+            int[] docOf = new int[docs];
+            for (int i = 0; i < docs; i++) {
+                keys[i] = sorted[i].key;
+                docOf[i] = sorted[i].id;
+            }
+            Builder b = new Builder(keys, docOf, (int) Math.min(chars, Integer.MAX_VALUE - 8), maxResults);
+            b.size = 1;
+            b.build(0, 0, docs, 0);
+            return new Trie(names, kcals, b.size, b.label, b.firstChild, b.childCount,
+                    b.topStart, b.topLen, Arrays.copyOf(b.tops, b.topsSize));
+        }
+    }
+
+    private static final class Doc {
+        final String key;
+        final String name;
+        final double kcal;
+        int id;
+
+        Doc(String key, String name, double kcal) {
+            this.key = key;
+            this.name = name;
+            this.kcal = kcal;
+        }
+    }
+
+    private static final class Builder {
+        final String[] keys;
+        final int[] docOf;
+        final int maxResults;
+
+        final char[] label;
+        final int[] firstChild;
+        final int[] childCount;
+        final int[] topStart;
+        final int[] topLen;
+        int size;
+        int[] tops = new int[1024];
+        int topsSize;
+
+        Builder(String[] keys, int[] docOf, int capacity, int maxResults) {
+            this.keys = keys;
+            this.docOf = docOf;
+            this.maxResults = maxResults;
+            this.label = new char[capacity];
+            this.firstChild = new int[capacity];
+            this.childCount = new int[capacity];
+            this.topStart = new int[capacity];
+            this.topLen = new int[capacity];
+        }
+
+        // keys[lo, hi) 는 모두 같은 depth 글자 접두어를 공유
+        void build(int node, int lo, int hi, int depth) {
+            int terminal = -1;
+            if (lo < hi && keys[lo].length() == depth) {
+                terminal = docOf[lo++];
+            }
+
+            // 다음 글자별 그룹 수 → 자식 노드를 연속으로 할당
+            int groups = 0;
+            for (int i = lo; i < hi; groups++) {
+                char c = keys[i].charAt(depth);
+                while (i < hi && keys[i].charAt(depth) == c) {
+                    i++;
+                }
+            }
+            int first = size;
+            size += groups;
+            firstChild[node] = first;
+            childCount[node] = groups;
+
+            int g = 0;
+            for (int i = lo; i < hi; g++) {
+                char c = keys[i].charAt(depth);
+                int j = i;
+                while (j < hi && keys[j].charAt(depth) == c) {
+                    j++;
+                }
+                label[first + g] = c;
+                build(first + g, i, j, depth + 1);
+                i = j;
+            }
+
+            if (terminal < 0 && groups == 1) {
+                topStart[node] = topStart[first];
+                topLen[node] = topLen[first];
+                return;
+            }
+
+            // 자기 자신 + 자식들의 상위 목록 중 가장 작은 번호 maxResults 개
+            int total = terminal >= 0 ? 1 : 0;
+            for (int c = first; c < first + groups; c++) {
+                total += topLen[c];
+            }
+            int[] merged = new int[total];
+            int m = 0;
+            if (terminal >= 0) {
+                merged[m++] = terminal;
+            }
+            for (int c = first; c < first + groups; c++) {
+                System.arraycopy(tops, topStart[c], merged, m, topLen[c]);
+                m += topLen[c];
+            }
+            Arrays.sort(merged);
+            int n = Math.min(maxResults, total);
+            ensureTops(topsSize + n);
+            System.arraycopy(merged, 0, tops, topsSize, n);
+            topStart[node] = topsSize;
+            topLen[node] = n;
+            topsSize += n;
+        }
+
+        private void ensureTops(int n) {
+            if (n > tops.length) {
+                tops = Arrays.copyOf(tops, Math.max(n, tops.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.health_care.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.health_care.config.FoodClient;
+import com.example.health_care.entity.FoodImportCheckpointEntity;
+import com.example.health_care.repository.FoodImportCheckpointRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 공공데이터 영양성분 전체 데이터셋 → 로컬 food_info 일괄 적재 (페이지 단위 체크포인트로 재개 가능)
+@Slf4j
+@Service
+public class FoodImportService {
+
+    private static final String JOB_NAME = "public_nutri";
+    private static final int MAX_PAGE_ATTEMPTS = 3;
+
+    public record ImportStatus(boolean running, String status, int nextPage, Integer totalCount,
+            long importedRows, LocalDateTime updatedAt) {
+    }
+
+    private final FoodClient client;
+    private final FoodResponseParser parser;
+    private final FoodLocalStore localStore;
+    private final FoodNameIndex nameIndex;
+    private final FoodAutocomplete autocomplete;
+    private final FoodImportCheckpointRepository checkpoints;
+    private final TransactionTemplate tx;
+    private final int pageSize;
+    private final long pageDelayMs;
+    private final boolean onStartup;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public FoodImportService(FoodClient client,
+            FoodResponseParser parser,
+            FoodLocalStore localStore,
+            FoodNameIndex nameIndex,
+            FoodAutocomplete autocomplete,
+            FoodImportCheckpointRepository checkpoints,
+            TransactionTemplate tx,
+            @Value("${nutri.import.page-size:500}") int pageSize,
+            @Value("${nutri.import.page-delay-ms:200}") long pageDelayMs,
+            @Value("${nutri.import.on-startup:false}") boolean onStartup) {
+        this.client = client;
+        this.parser = parser;
+        this.localStore = localStore;
+        this.nameIndex = nameIndex;
+        this.autocomplete = autocomplete;
+        this.checkpoints = checkpoints;
+        this.tx = tx;
+        this.pageSize = Math.min(Math.max(1, pageSize), 1000);
+        this.pageDelayMs = Math.max(0, pageDelayMs);
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void importOnStartup() {
+        if (onStartup) {
+            startAsync(false);
+        }
+    }
+
+    // 백그라운드 스레드에서 적재 시작 (이미 실행 중이면 false)
+    public boolean startAsync(boolean restart) {
+        if (running.get()) {
+            return false;
+        }
+        Thread worker = new Thread(() -> runImport(restart), "food-import");
+        worker.setDaemon(true);
+        worker.start();
+        return true;
+    }
+
+    public ImportStatus status() {
+        FoodImportCheckpointEntity cp = checkpoints.findById(JOB_NAME).orElse(null);
+        if (cp == null) {
+            return new ImportStatus(running.get(), "NONE", 1, null, 0, null);
+        }
+        return new ImportStatus(running.get(), cp.getStatus(), cp.getNextPage(), cp.getTotalCount(),
+                cp.getImportedRows(), cp.getUpdatedAt());
+    }
+
+    // 체크포인트의 다음 페이지부터 끝까지 적재 (restart = true면 1페이지부터 다시)
+    public void runImport(boolean restart) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[FOOD-IMPORT] already running");
+            return;
+        }
+        FoodImportCheckpointEntity cp = null;
+        try {
+            cp = checkpoints.findById(JOB_NAME).orElse(null);
+            if (cp == null || restart || "DONE".equals(cp.getStatus())) {
+                cp = FoodImportCheckpointEntity.builder()
+                        .jobName(JOB_NAME)
+                        .nextPage(1)
+                        .importedRows(0L)
+                        .build();
+            }
+            cp.setStatus("RUNNING");
+            cp.setUpdatedAt(LocalDateTime.now());
+            cp = checkpoints.save(cp);
+            log.info("[FOOD-IMPORT] start from page {} (pageSize={})", cp.getNextPage(), pageSize);
+
+            while (true) {
+                int page = cp.getNextPage();
+                FoodResponseParser.FoodPage parsed = fetchWithRetry(page);
+                if (parsed.isNoData() || parsed.items().isEmpty()) {
+                    break;
+                }
+
+                // 페이지 적재와 체크포인트 갱신을 한 트랜잭션으로 커밋
+                final FoodImportCheckpointEntity current = cp;
+                cp = tx.execute(status -> {
+                    int saved = localStore.upsertAll(parsed.items());
+                    current.setNextPage(page + 1);
+                    current.setImportedRows(current.getImportedRows() + saved);
+                    if (parsed.totalCount() > 0) {
+                        current.setTotalCount(parsed.totalCount());
+                    }
+                    current.setUpdatedAt(LocalDateTime.now());
+                    return checkpoints.save(current);
+                });
+                // 커밋된 페이지는 메모리 색인에도 바로 반영
+                nameIndex.addAll(parsed.items());
+                autocomplete.addAll(parsed.items());
+                log.info("[FOOD-IMPORT] page {} done ({} rows total)", page, cp.getImportedRows());
+
+                if (parsed.totalCount() > 0 && (long) page * pageSize >= parsed.totalCount()) {
+                    break;
+                }
+                if (pageDelayMs > 0) {
+                    Thread.sleep(pageDelayMs);
+                }
+            }
+
+            cp.setStatus("DONE");
+            cp.setUpdatedAt(LocalDateTime.now());
+            checkpoints.save(cp);
+            log.info("[FOOD-IMPORT] finished: {} rows", cp.getImportedRows());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(cp);
+        } catch (Exception e) {
+            log.error("[FOOD-IMPORT] failed - {}", e.getMessage());
+            markFailed(cp);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private FoodResponseParser.FoodPage fetchWithRetry(int page) throws InterruptedException {
+        RuntimeException last = null;
+        for (int attempt = 1; attempt <= MAX_PAGE_ATTEMPTS; attempt++) {
+            try {
+                FoodResponseParser.FoodPage parsed = client.fetchPage(page, pageSize, parser::parse);
+                if (parsed.isSuccess() || parsed.isNoData()) {
+                    return parsed;
+                }
+                last = new IllegalStateException("공공데이터 오류: " + parsed.resultCode() + " / " + parsed.resultMsg());
+            } catch (RuntimeException e) {
+                last = e;
+            }
+            log.warn("[FOOD-IMPORT] page {} attempt {} failed - {}", page, attempt, last.getMessage());
+            Thread.sleep(1000L * attempt);
+        }
+        throw last;
+    }
+
+    // 실패해도 next_page는 마지막 커밋 지점을 가리키므로 다시 실행하면 이어서 적재됩니다.
+    private void markFailed(FoodImportCheckpointEntity cp) {
+        if (cp == null) {
+            return;
+        }
+        try {
+            cp.setStatus("FAILED");
+            cp.setUpdatedAt(LocalDateTime.now());
+            checkpoints.save(cp);
+        } catch (Exception e) {
+            log.error("[FOOD-IMPORT] could not save checkpoint - {}", e.getMessage());
+        }
+    }
+}
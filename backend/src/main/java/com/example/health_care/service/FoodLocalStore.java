@@ -0,0 +1,113 @@
+package com.example.health_care.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.health_care.dto.FoodDTO;
+import com.example.health_care.entity.FoodInfoEntity;
+import com.example.health_care.repository.FoodInfoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 영양성분 DB(food_info) 조회/적재
+@Slf4j
+@Component
+public class FoodLocalStore {
+
+    // food_info.food_name 컬럼 길이 (VARCHAR2(100) 은 바이트 단위 → 한글은 글자당 3바이트)
+    private static final int MAX_NAME_BYTES = 100;
+
+    private static final String UPSERT_SQL =
+            "MERGE INTO food_info t " +
+            "USING (SELECT ? AS food_name, ? AS calories FROM dual) s " +
+            "ON (t.food_name = s.food_name) " +
+            "WHEN MATCHED THEN UPDATE SET t.calories = s.calories " +
+            "WHEN NOT MATCHED THEN INSERT (food_name, calories, count) VALUES (s.food_name, s.calories, 0)";
+
+    private final FoodInfoRepository repository;
+    private final JdbcTemplate jdbc;
+    private final boolean enabled;
+    private final int maxCandidates;
+
+    public FoodLocalStore(FoodInfoRepository repository,
+            JdbcTemplate jdbc,
+            @Value("${nutri.local.enabled:true}") boolean enabled,
+            @Value("${nutri.local.max-candidates:200}") int maxCandidates) {
+        this.repository = repository;
+        this.jdbc = jdbc;
+        this.enabled = enabled;
+        this.maxCandidates = Math.max(1, maxCandidates);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 검색 키워드 조합별로 이름에 포함되는 식품을 모읍니다. (순위는 호출 측에서 계산)
+    public List<FoodDTO> search(List<String> queries) {
+        if (!enabled) {
+            return List.of();
+        }
+        Map<String, FoodDTO> out = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (query.isEmpty() || out.size() >= maxCandidates) {
+                continue;
+            }
+            try {
+                for (FoodInfoEntity e : repository.findByFoodNameContaining(query, PageRequest.of(0, maxCandidates))) {
+                    out.putIfAbsent(e.getFoodName(), toDto(e));
+                }
+            } catch (Exception e) {
+                // 로컬 DB 오류 시 원격 검색으로 넘어가도록 빈 결과 처리
+                log.warn("[FOOD-LOCAL] local food lookup failed for '{}' - {}", query, e.getMessage());
+                return List.of();
+            }
+        }
+        return List.copyOf(out.values());
+    }
+
+    // 식품 목록을 배치 MERGE로 저장 (이름 기준 upsert), 저장한 행 수 반환
+    public int upsertAll(List<FoodDTO> items) {
+        List<Object[]> rows = items.stream()
+                .filter(dto -> dto.getFoodNm() != null && !dto.getFoodNm().isBlank() && dto.getEnerc() != null)
+                .map(dto -> new Object[] { truncate(dto.getFoodNm().trim()), (int) Math.round(dto.getEnerc()) })
+                .toList();
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbc.batchUpdate(UPSERT_SQL, rows);
+        return rows.size();
+    }
+
+    private static FoodDTO toDto(FoodInfoEntity e) {
+        return FoodDTO.builder()
+                .foodNm(e.getFoodName())
+                .enerc(e.getCalories() == null ? null : e.getCalories().doubleValue())
+                .build();
+    }
+
+    // UTF-8 로 MAX_NAME_BYTES 바이트 이내가 되도록 글자(코드 포인트) 단위로 자름
+    static String truncate(String name) {
+        if (name.length() * 3 <= MAX_NAME_BYTES) {
+            return name;
+        }
+        int bytes = 0;
+        int i = 0;
+        while (i < name.length()) {
+            int cp = name.codePointAt(i);
+            int len = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (bytes + len > MAX_NAME_BYTES) {
+                return name.substring(0, i);
+            }
+            bytes += len;
+            i += Character.charCount(cp);
+        }
+        return name;
+    }
+}
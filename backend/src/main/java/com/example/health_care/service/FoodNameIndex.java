@@ -0,0 +1,399 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.health_care.dto.FoodDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 식품명 n-gram 역색인 (메모리)
+ *
+ * - 공백 제거 + 소문자 정규화한 이름의 2-gram/3-gram 을 키로, 식품 번호(int) 목록을 값으로 보관
+ *   (한 글자 질의용으로 글자 1-gram 도 따로 색인, 점수의 n-gram 개수에는 넣지 않음)
+ * - jamo 옵션을 켜면 한글 음절을 초성/중성/종성으로 분해한 뒤 n-gram 을 만들어 오타에 더 관대해짐
+ * - 검색은 질의 n-gram 의 posting 을 합산한 겹침 점수(Dice)로 순위를 매기고, 부분 문자열 일치를 우선
+ *   (겹침 수는 후보 식품만 담는 작은 해시 테이블에 누적 → 전체 식품 수와 무관)
+ * - 기동 시 food_info 테이블에서 한 번 적재하고, 이후 적재되는 식품은 add 로 증분 반영
+ *   (적재가 끝나기 전에는 isReady() 가 false → 호출 쪽은 DB 로 검색)
+ */
+@Slf4j
+@Component
+public class FoodNameIndex {
+
+    private final JdbcTemplate jdbc;
+    private final boolean jamo;
+    private final double minOverlap;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 식품 번호(docId) → 원래 이름 / 정규화 키 / 열량 / n-gram 개수
+    private final List<String> names = new ArrayList<>();
+    private final List<String> keys = new ArrayList<>();
+    private double[] kcals = new double[1024];
+    private int[] gramCounts = new int[1024];
+    private final Map<String, Integer> idByName = new HashMap<>();
+
+    // n-gram → 식품 번호 목록 (번호 오름차순으로만 추가됨)
+    private final Map<Long, IntList> postings = new HashMap<>();
+
+    // 기동 시 전체 적재가 끝났는지 (일부만 색인된 상태로 검색하지 않도록)
+    private volatile boolean ready = false;
+
+    public FoodNameIndex(JdbcTemplate jdbc,
+            @Value("${nutri.index.jamo:false}") boolean jamo,
+            @Value("${nutri.index.min-overlap:0.5}") double minOverlap) {
+        this.jdbc = jdbc;
+        this.jamo = jamo;
+        this.minOverlap = Math.min(Math.max(minOverlap, 0.0), 1.0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(this::loadFromTable, "food-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // food_info 전체를 스트리밍으로 읽어 색인
+    public void loadFromTable() {
+        long start = System.currentTimeMillis();
+        try {
+            jdbc.query("SELECT food_name, calories FROM food_info", rs -> {
+                String name = rs.getString(1);
+                int kcal = rs.getInt(2);
+                add(name, rs.wasNull() ? null : (double) kcal);
+            });
+            ready = true;
+            log.info("[FOOD-INDEX] loaded {} names in {} ms", size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("[FOOD-INDEX] initial load failed - {}", e.getMessage());
+        }
+    }
+
+    public void addAll(List<FoodDTO> items) {
+        for (FoodDTO dto : items) {
+            add(dto.getFoodNm(), dto.getEnerc());
+        }
+    }
+
+    // 새 이름이면 색인에 추가, 이미 있으면 열량만 갱신
+    public void add(String name, Double kcal) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String display = name.trim();
+        String key = normalize(display);
+        if (key.isEmpty()) {
+            return;
+        }
+        long[] grams = grams(key);
+        long[] indexed = withUnigrams(key, grams);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = idByName.get(display);
+            if (existing != null) {
+                kcals[existing] = kcal == null ? Double.NaN : kcal;
+                return;
+            }
+            int id = names.size();
+            ensureCapacity(id + 1);
+            names.add(display);
+            keys.add(key);
+            kcals[id] = kcal == null ? Double.NaN : kcal;
+            gramCounts[id] = grams.length;
+            idByName.put(display, id);
+            for (long g : indexed) {
+                postings.computeIfAbsent(g, k -> new IntList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열/유사 검색. 겹침 점수가 높은 순으로 최대 limit 개 반환
+     * (부분 문자열로 포함하는 이름이 항상 앞, 같은 점수면 짧은 이름 우선)
+     */
+    public List<FoodDTO> search(String query, int limit) {
+        return search(query, limit, false);
+    }
+
+    // 질의를 부분 문자열로 포함하는 이름만 (유사 일치 제외, 원격 검색을 건너뛰어도 되는 확실한 결과)
+    public List<FoodDTO> searchContaining(String query, int limit) {
+        return search(query, limit, true);
+    }
+
+    private List<FoodDTO> search(String query, int limit, boolean containingOnly) {
+        String key = normalize(query == null ? "" : query);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        long[] queryGrams = grams(key);
+        int required = Math.max(1, (int) Math.ceil(queryGrams.length * minOverlap));
+
+        lock.readLock().lock();
+        try {
+            int docs = names.size();
+            if (docs == 0) {
+                return List.of();
+            }
+            // 질의 n-gram 별 posting 을 순회하며 후보 식품별 겹침 수 누적
+            int candidates = 0;
+            for (long g : queryGrams) {
+                IntList list = postings.get(g);
+                candidates += list == null ? 0 : list.size;
+            }
+            if (candidates == 0) {
+                return List.of();
+            }
+            OverlapCounter overlap = new OverlapCounter(Math.min(candidates, docs));
+            for (long g : queryGrams) {
+                IntList list = postings.get(g);
+                if (list == null) {
+                    continue;
+                }
+                int[] ids = list.values;
+                for (int i = 0, n = list.size; i < n; i++) {
+                    overlap.increment(ids[i]);
+                }
+            }
+
+            // 상위 limit 개만 유지하는 최소 힙 (점수 낮은 것이 머리)
+            PriorityQueue<Scored> heap = new PriorityQueue<>(limit + 1);
+            for (int slot = 0; slot < overlap.capacity(); slot++) {
+                int id = overlap.idAt(slot);
+                if (id < 0) {
+                    continue;
+                }
+                int o = overlap.countAt(slot);
+                if (o < required) {
+                    continue;
+                }
+                double score = 2.0 * o / (queryGrams.length + gramCounts[id]);
+                // 모든 질의 n-gram 이 겹친 경우에만 실제 부분 문자열 여부 확인
+                if (o == queryGrams.length && keys.get(id).contains(key)) {
+                    score += 1.0;
+                } else if (containingOnly) {
+                    continue;
+                }
+                heap.offer(new Scored(id, score, keys.get(id).length()));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            Scored[] top = heap.toArray(new Scored[0]);
+            Arrays.sort(top, (a, b) -> b.compareTo(a));
+            List<FoodDTO> out = new ArrayList<>(top.length);
+            for (Scored s : top) {
+                double kcal = kcals[s.id];
+                out.add(FoodDTO.builder()
+                        .foodNm(names.get(s.id))
+                        .enerc(Double.isNaN(kcal) ? null : kcal)
+                        .build());
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 소문자 + 공백 제거 (+ 옵션: 한글 자모 분해)
+    String normalize(String name) {
+        String s = name.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(jamo ? s.length() * 3 : s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (jamo) {
+                HangulJamo.append(sb, c, false);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 2-gram + 3-gram (한 글자면 1-gram) 을 long 으로 인코딩, 중복 제거
+    private static long[] grams(String key) {
+        int len = key.length();
+        if (len == 1) {
+            return new long[] { gram(key, 0, 1) };
+        }
+        long[] out = new long[(len - 1) + Math.max(0, len - 2)];
+        int n = 0;
+        for (int i = 0; i + 2 <= len; i++) {
+            out[n++] = gram(key, i, 2);
+        }
+        for (int i = 0; i + 3 <= len; i++) {
+            out[n++] = gram(key, i, 3);
+        }
+        return Arrays.stream(out, 0, n).distinct().toArray();
+    }
+
+    // 색인용: n-gram + 글자 1-gram (한 글자 질의가 긴 이름에서도 찾아지도록)
+    private static long[] withUnigrams(String key, long[] grams) {
+        long[] out = Arrays.copyOf(grams, grams.length + key.length());
+        for (int i = 0; i < key.length(); i++) {
+            out[grams.length + i] = gram(key, i, 1);
+        }
+        return Arrays.stream(out).distinct().toArray();
+    }
+
+    // 글자(16bit) 최대 3개 + 길이(2bit) 를 하나의 long 으로
+    private static long gram(String s, int from, int len) {
+        long code = len;
+        for (int i = from; i < from + len; i++) {
+            code = (code << 16) | s.charAt(i);
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > kcals.length) {
+            int cap = Math.max(n, kcals.length * 2);
+            kcals = Arrays.copyOf(kcals, cap);
+            gramCounts = Arrays.copyOf(gramCounts, cap);
+        }
+    }
+
+    private record Scored(int id, double score, int length) implements Comparable<Scored> {
+        // 점수 높을수록, 같으면 이름이 짧을수록, 그래도 같으면 먼저 색인된 것이 "큼"
+        @Override
+        public int compareTo(Scored o) {
+            int c = Double.compare(score, o.score);
+            if (c != 0) {
+                return c;
+            }
+            c = Integer.compare(o.length, length);
+            if (c != 0) {
+                return c;
+            }
+            return Integer.compare(o.id, id);
+        }
+    }
+
+    // 검색 한 번 동안 후보 식품 번호 → 겹침 수 (개방 주소법, 크기는 후보 수 기준)
+    static final class OverlapCounter {
+        private int[] ids;
+        private int[] counts;
+        private int size;
+
+        OverlapCounter(int expected) {
+            int cap = Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1;
+            ids = new int[cap];
+            counts = new int[cap];
+            Arrays.fill(ids, -1);
+        }
+
+        void increment(int id) {
+            int mask = ids.length - 1;
+            int slot = mix(id) & mask;
+            while (ids[slot] != id) {
+                if (ids[slot] < 0) {
+                    if ((size + 1) * 2 > ids.length) {
+                        grow();
+                        increment(id);
+                        return;
+                    }
+                    ids[slot] = id;
+                    size++;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            counts[slot]++;
+        }
+
+        int get(int id) {
+            int mask = ids.length - 1;
+            for (int slot = mix(id) & mask; ids[slot] >= 0; slot = (slot + 1) & mask) {
+                if (ids[slot] == id) {
+                    return counts[slot];
+                }
+            }
+            return 0;
+        }
+
+        int capacity() {
+            return ids.length;
+        }
+
+        // 빈 칸이면 -1
+        int idAt(int slot) {
+            return ids[slot];
+        }
+
+        int countAt(int slot) {
+            return counts[slot];
+        }
+
+        private void grow() {
+            int[] oldIds = ids;
+            int[] oldCounts = counts;
+            ids = new int[oldIds.length * 2];
+            counts = new int[oldIds.length * 2];
+            Arrays.fill(ids, -1);
+            size = 0;
+            int mask = ids.length - 1;
+            for (int i = 0; i < oldIds.length; i++) {
+                if (oldIds[i] >= 0) {
+                    int slot = mix(oldIds[i]) & mask;
+                    while (ids[slot] >= 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    ids[slot] = oldIds[i];
+                    counts[slot] = oldCounts[i];
+                    size++;
+                }
+            }
+        }
+
+        private static int mix(int id) {
+            return id * 0x9E3779B9 >>> 7 ^ id;
+        }
+    }
+
+    // 박싱 없는 int 목록
+    private static final class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+    }
+}
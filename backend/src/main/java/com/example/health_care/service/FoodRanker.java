@@ -0,0 +1,129 @@
+package com.example.health_care.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.example.health_care.dto.FoodDTO;
+
+/**
+ * 검색 결과 순위 계산기
+ *
+ * 후보마다 (가중치 × 점수) 합을 한 번만 계산해 double 배열에 담고,
+ * 크기 K 의 최소 힙으로 상위 K 개만 골라냅니다. (전체 정렬 없음)
+ * 점수가 같으면 먼저 들어온 후보가 앞에 옵니다.
+ */
+public class FoodRanker {
+
+    // 검색어를 한 번만 전처리해 둔 값
+    public record Query(String lower, String compact, String[] words) {
+        public static Query of(String query) {
+            String lower = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+            return new Query(lower, lower.replace(" ", ""), lower.split("\\s+"));
+        }
+    }
+
+    public record Weighted(FoodScorer scorer, double weight) {
+    }
+
+    private final List<Weighted> scorers;
+
+    public FoodRanker(List<Weighted> scorers) {
+        this.scorers = List.copyOf(scorers);
+    }
+
+    /**
+     * 기존 정렬 기준과 같은 순서: 일치 단어 수 > 열량 유무 > 짧은 이름
+     * (이름 길이가 1000자 미만이면 가중치 자릿수가 겹치지 않음)
+     * editDistanceWeight 가 0보다 크면 편집 거리 점수를 추가로 반영
+     */
+    public static FoodRanker defaults(double editDistanceWeight) {
+        List<Weighted> list = new ArrayList<>();
+        list.add(new Weighted(FoodScorer.MATCH_COUNT, 1_000_000));
+        list.add(new Weighted(FoodScorer.DATA_COMPLETENESS, 1_000));
+        list.add(new Weighted(FoodScorer.SHORT_NAME, 1));
+        if (editDistanceWeight > 0) {
+            list.add(new Weighted(FoodScorer.EDIT_DISTANCE, editDistanceWeight));
+        }
+        return new FoodRanker(list);
+    }
+
+    public List<FoodDTO> topK(List<FoodDTO> candidates, String query, int k) {
+        int n = candidates.size();
+        if (n == 0 || k <= 0) {
+            return List.of();
+        }
+        Query q = Query.of(query);
+
+        // 1) 후보별 점수 1회 계산
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            FoodDTO c = candidates.get(i);
+            String lowerName = c.getFoodNm() == null ? "" : c.getFoodNm().toLowerCase(Locale.ROOT);
+            double s = 0;
+            for (Weighted w : scorers) {
+                s += w.weight() * w.scorer().score(q, c, lowerName);
+            }
+            scores[i] = s;
+        }
+
+        // 2) 크기 K 최소 힙 (머리 = 현재 상위 K 중 가장 낮은 후보)
+        int size = Math.min(k, n);
+        int[] heap = new int[size];
+        int filled = 0;
+        for (int i = 0; i < n; i++) {
+            if (filled < size) {
+                heap[filled] = i;
+                siftUp(heap, filled++, scores);
+            } else if (better(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, 0, size, scores);
+            }
+        }
+
+        // 3) 힙에서 낮은 순으로 꺼내 뒤에서부터 채움
+        FoodDTO[] out = new FoodDTO[size];
+        for (int end = size - 1; end >= 0; end--) {
+            out[end] = candidates.get(heap[0]);
+            heap[0] = heap[end];
+            siftDown(heap, 0, end, scores);
+        }
+        return List.of(out);
+    }
+
+    // a 가 b 보다 상위인가 (점수 높음, 같으면 먼저 들어온 것)
+    private static boolean better(int a, int b, double[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int i, double[] scores) {
+        int x = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!better(heap[parent], x, scores)) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = x;
+    }
+
+    private static void siftDown(int[] heap, int i, int size, double[] scores) {
+        int x = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && better(heap[child], heap[right], scores)) {
+                child = right;
+            }
+            if (!better(x, heap[child], scores)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = x;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.health_care.service;
+
+import com.example.health_care.dto.FoodDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/// 공공데이터 식품영양성분 API 응답 파서
+///
+/// JsonNode 트리를 만들지 않고 JsonParser 토큰을 한 번만 훑으면서
+/// 이름/열량 필드를 가진 객체(records, data, response.body.items.item 등 위치 무관)만 골라냅니다.
+@Component
+public class FoodResponseParser {
+
+    private static final List<String> NAME_KEYS = List.of("foodNm", "foodName", "desc_kor", "DESC_KOR", "식품명");
+    private static final List<String> KCAL_KEYS = List.of("enerc", "kcal", "NUTR_CONT1", "에너지(kcal)", "에너지(KCAL)",
+            "에너지kcal");
+
+    // 필드명 → 우선순위 (목록 앞쪽 키가 우선)
+    private static final Map<String, Integer> NAME_RANK = rankOf(NAME_KEYS);
+    private static final Map<String, Integer> KCAL_RANK = rankOf(KCAL_KEYS);
+
+    private final JsonFactory factory = new JsonFactory();
+
+    // 응답 한 페이지: 결과코드, 전체 건수, 식품 목록
+    public record FoodPage(String resultCode, String resultMsg, int totalCount, List<FoodDTO> items) {
+        public boolean isSuccess() {
+            return "00".equals(resultCode);
+        }
+
+        public boolean isNoData() {
+            return "03".equals(resultCode);
+        }
+    }
+
+    // 응답 스트림을 바로 파싱 (스트림은 호출 측에서 닫음)
+    public FoodPage parse(InputStream body) throws IOException {
+        try (JsonParser p = factory.createParser(body)) {
+            return read(p);
+        }
+    }
+
+    private FoodPage read(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("공공데이터 응답이 JSON 객체가 아닙니다.");
+        }
+        Result result = new Result();
+        readObject(p, result);
+
+        List<FoodDTO> items = "00".equals(result.resultCode) ? new ArrayList<>(result.items.values()) : List.of();
+        return new FoodPage(result.resultCode, result.resultMsg, result.totalCount, items);
+    }
+
+    // 파싱 중 누적 상태
+    private static final class Result {
+        String resultCode = "";
+        String resultMsg = "";
+        int totalCount;
+        final Map<String, FoodDTO> items = new LinkedHashMap<>();
+    }
+
+    // START_OBJECT 다음부터 END_OBJECT 까지 읽으면서, 이 객체가 이름+열량을 모두 가지면 식품으로 추가
+    private void readObject(JsonParser p, Result result) throws IOException {
+        String name = null;
+        int nameRank = Integer.MAX_VALUE;
+        Double kcal = null;
+        int kcalRank = Integer.MAX_VALUE;
+
+        JsonToken t;
+        while ((t = p.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = p.currentName();
+            JsonToken v = p.nextToken();
+            if (v == JsonToken.START_OBJECT) {
+                readObject(p, result);
+                continue;
+            }
+            if (v == JsonToken.START_ARRAY) {
+                readArray(p, result);
+                continue;
+            }
+            if (v == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            Integer nr = NAME_RANK.get(field);
+            if (nr != null && nr < nameRank) {
+                String s = p.getText().trim();
+                if (!s.isEmpty()) {
+                    name = s;
+                    nameRank = nr;
+                }
+                continue;
+            }
+            Integer kr = KCAL_RANK.get(field);
+            if (kr != null && kr < kcalRank) {
+                Double d = v.isNumeric() ? Double.valueOf(p.getDoubleValue()) : parseLooseNumber(p.getText());
+                if (d != null) {
+                    kcal = d;
+                    kcalRank = kr;
+                }
+                continue;
+            }
+            switch (field) {
+                case "resultCode" -> result.resultCode = p.getText().trim();
+                case "resultMsg" -> result.resultMsg = p.getText().trim();
+                case "totalCount" -> result.totalCount = v.isNumeric() ? p.getIntValue() : parseInt(p.getText());
+                default -> {
+                }
+            }
+        }
+        if (t != JsonToken.END_OBJECT) {
+            throw new IllegalStateException("공공데이터 응답 JSON 형식 오류");
+        }
+        if (name != null && kcal != null) {
+            result.items.putIfAbsent(name, FoodDTO.builder().foodNm(name).enerc(kcal).build());
+        }
+    }
+
+    // START_ARRAY 다음부터 END_ARRAY 까지: 객체/배열 원소만 따라 들어감
+    private void readArray(JsonParser p, Result result) throws IOException {
+        JsonToken t;
+        while ((t = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == null) {
+                throw new IllegalStateException("공공데이터 응답 JSON 형식 오류");
+            }
+            if (t == JsonToken.START_OBJECT) {
+                readObject(p, result);
+            } else if (t == JsonToken.START_ARRAY) {
+                readArray(p, result);
+            }
+        }
+    }
+
+    // "1,234.5 kcal" 같은 문자열에서 앞쪽 숫자만 추출
+    private static Double parseLooseNumber(String text) {
+        String raw = text == null ? "" : text.trim();
+        if (raw.isEmpty())
+            return null;
+        StringBuilder sb = new StringBuilder();
+        boolean dot = false, sign = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == ',')
+                continue;
+            if (Character.isDigit(c))
+                sb.append(c);
+            else if (c == '.' && !dot) {
+                dot = true;
+                sb.append(c);
+            } else if ((c == '+' || c == '-') && !sign && sb.length() == 0) {
+                sign = true;
+                sb.append(c);
+            } else if (sb.length() > 0)
+                break;
+        }
+        try {
+            return sb.length() > 0 ? Double.valueOf(sb.toString()) : null;
+        } catch (NumberFormatException ignore) {
+            return null;
+        }
+    }
+
+    private static int parseInt(String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (Exception ignore) {
+            return 0;
+        }
+    }
+
+    private static Map<String, Integer> rankOf(List<String> keys) {
+        Map<String, Integer> m = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            m.put(keys.get(i), i);
+        }
+        return Map.copyOf(m);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.health_care.service;
+
+import com.example.health_care.dto.FoodDTO;
+
+/**
+ * 검색 후보 점수 계산기 (FoodRanker 에 가중치와 함께 등록)
+ * 점수가 클수록 상위에 노출됩니다.
+ */
+@FunctionalInterface
+public interface FoodScorer {
+
+    // lowerName: 후보 이름을 소문자로 바꾼 값 (후보당 한 번만 계산해서 넘겨줌)
+    double score(FoodRanker.Query query, FoodDTO candidate, String lowerName);
+
+    // 1. 검색어 단어가 이름에 포함된 개수
+    FoodScorer MATCH_COUNT = (query, candidate, lowerName) -> {
+        int matches = 0;
+        for (String word : query.words()) {
+            if (lowerName.contains(word)) {
+                matches++;
+            }
+        }
+        return matches;
+    };
+
+    // 2. 부가 데이터(열량) 존재 여부
+    FoodScorer DATA_COMPLETENESS = (query, candidate, lowerName) -> candidate.getEnerc() != null ? 1 : 0;
+
+    // 3. 이름 길이 (짧을수록 정확할 가능성이 높으므로 음수)
+    FoodScorer SHORT_NAME = (query, candidate, lowerName) -> -lowerName.length();
+
+    // 4. 공백 제거한 이름과 검색어의 편집 거리 (가까울수록 높음)
+    FoodScorer EDIT_DISTANCE = (query, candidate, lowerName) ->
+            -levenshtein(lowerName.replace(" ", ""), query.compact());
+
+    // 두 줄 배열만 쓰는 Levenshtein 거리
+    static int levenshtein(String a, String b) {
+        int n = a.length();
+        int m = b.length();
+        if (n == 0) return m;
+        if (m == 0) return n;
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) prev[j] = j;
+        for (int i = 1; i <= n; i++) {
+            cur[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+            }
+            int[] t = prev;
+            prev = cur;
+            cur = t;
+        }
+        return prev[m];
+    }
+}
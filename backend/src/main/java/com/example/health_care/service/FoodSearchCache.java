@@ -0,0 +1,212 @@
+package com.example.health_care.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.health_care.dto.FoodDTO;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 공공데이터 검색 결과 캐시 (키워드/페이지/행수 단위, 크기 제한 + TTL 만료)
+// TTL 이 지난 항목도 stale-ttl 동안은 "마지막 정상 결과"로 남겨 두었다가 상류 장애 시 대신 반환합니다.
+@Component
+public class FoodSearchCache {
+
+    // 캐시 키: 정규화된 키워드 + 페이지 + 행수
+    public record Key(String query, int page, int rows) {
+        public static Key of(String query, int page, int rows) {
+            return new Key(normalize(query), page, rows);
+        }
+    }
+
+    private record Entry(List<FoodDTO> items, long expiresAtNanos, long staleUntilNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean isGone(long now) {
+            return now - staleUntilNanos >= 0;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long staleTtlNanos;
+    private final LongSupplier nanoClock;
+
+    // accessOrder = true → 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    // 같은 키의 동시 미스는 원격 호출 한 번으로 합침
+    private final SingleFlight<Key, List<FoodDTO>> loads = new SingleFlight<>();
+
+    @Autowired
+    public FoodSearchCache(
+            MeterRegistry registry,
+            @Value("${nutri.cache.max-size:2000}") int maxSize,
+            @Value("${nutri.cache.ttl-seconds:21600}") long ttlSeconds,
+            @Value("${nutri.cache.stale-ttl-seconds:604800}") long staleTtlSeconds) {
+        this(registry, maxSize, ttlSeconds, staleTtlSeconds, System::nanoTime);
+    }
+
+    FoodSearchCache(MeterRegistry registry, int maxSize, long ttlSeconds, long staleTtlSeconds,
+            LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(1, ttlSeconds));
+        this.staleTtlNanos = TimeUnit.SECONDS.toNanos(Math.max(ttlSeconds, staleTtlSeconds));
+
+        FunctionCounter.builder("food.search.cache.hits", hits, LongAdder::sum)
+                .description("공공데이터 검색 캐시 적중 수").register(registry);
+        FunctionCounter.builder("food.search.cache.misses", misses, LongAdder::sum)
+                .description("공공데이터 검색 캐시 미스 수").register(registry);
+        FunctionCounter.builder("food.search.cache.evictions", evictions, LongAdder::sum)
+                .description("크기 초과/만료로 제거된 항목 수").register(registry);
+        FunctionCounter.builder("food.search.cache.stale", staleServed, LongAdder::sum)
+                .description("상류 장애로 만료된 결과를 대신 반환한 수").register(registry);
+        FunctionCounter.builder("food.search.cache.coalesced", loads, SingleFlight::coalescedCount)
+                .description("진행 중인 같은 검색에 합류한 호출 수").register(registry);
+        Gauge.builder("food.search.cache.size", this, FoodSearchCache::size)
+                .description("현재 캐시 항목 수").register(registry);
+        Gauge.builder("food.search.cache.in-flight", loads, SingleFlight::inFlightCount)
+                .description("진행 중인 원격 검색 수").register(registry);
+    }
+
+    // 캐시에 있으면 바로 반환하고, 없으면 loader 결과를 저장 후 반환 (loader 예외는 캐시하지 않음)
+    // loader 가 실패하면 마지막 정상 결과를 stale 표시해 반환하고, 그것도 없으면 예외를 그대로 던짐
+    // 같은 키로 동시에 미스가 나면 loader 는 한 번만 호출되고 모두 같은 결과를 받음
+    public List<FoodDTO> get(String query, int page, int rows, Supplier<List<FoodDTO>> loader) {
+        Key key = Key.of(query, page, rows);
+        List<FoodDTO> cached = getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return loads.execute(key, () -> load(key, loader));
+    }
+
+    private List<FoodDTO> load(Key key, Supplier<List<FoodDTO>> loader) {
+        // 앞선 leader 가 방금 채웠을 수 있으므로 한 번 더 확인
+        List<FoodDTO> cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 원격 호출은 락 밖에서 수행
+        List<FoodDTO> loaded;
+        try {
+            loaded = List.copyOf(loader.get());
+        } catch (RuntimeException e) {
+            List<FoodDTO> stale = getStale(key);
+            if (stale == null) {
+                throw e;
+            }
+            staleServed.increment();
+            return stale;
+        }
+        put(key, loaded);
+        return loaded;
+    }
+
+    public List<FoodDTO> getIfPresent(Key key) {
+        long now = nanoClock.getAsLong();
+        synchronized (entries) {
+            Entry e = entries.get(key);
+            if (e == null) {
+                return null;
+            }
+            if (e.isGone(now)) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return e.isExpired(now) ? null : e.items();
+        }
+    }
+
+    // TTL 이 지났어도 stale-ttl 안이면 stale 표시한 사본 반환
+    public List<FoodDTO> getStale(Key key) {
+        long now = nanoClock.getAsLong();
+        Entry e;
+        synchronized (entries) {
+            e = entries.get(key);
+        }
+        if (e == null || e.isGone(now)) {
+            return null;
+        }
+        return e.items().stream()
+                .map(dto -> FoodDTO.builder().foodNm(dto.getFoodNm()).enerc(dto.getEnerc()).stale(true).build())
+                .toList();
+    }
+
+    public void put(Key key, List<FoodDTO> items) {
+        long now = nanoClock.getAsLong();
+        synchronized (entries) {
+            entries.put(key, new Entry(items, now + ttlNanos, now + staleTtlNanos));
+            if (entries.size() > maxSize) {
+                evictOverflow();
+            }
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    // 가장 오래 사용하지 않은 항목부터 제거 (entries 락 안에서 호출)
+    private void evictOverflow() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext() && entries.size() > maxSize) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    // 대소문자/연속 공백 차이는 같은 검색어로 취급
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
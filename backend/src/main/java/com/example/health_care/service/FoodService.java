@@ -2,25 +2,56 @@ package com.example.health_care.service;
 
 import com.example.health_care.config.FoodClient;
 import com.example.health_care.dto.FoodDTO;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /// 식품 영양성분 정보 서비스
+@Slf4j
 @Service
 public class FoodService {
 
-    private static final List<String> NAME_KEYS = List.of("foodNm", "foodName", "desc_kor", "DESC_KOR", "식품명");
-    private static final List<String> KCAL_KEYS = List.of("enerc", "kcal", "NUTR_CONT1", "에너지(kcal)", "에너지(KCAL)",
-            "에너지kcal");
-
     private final FoodClient client;
-    private final ObjectMapper om = new ObjectMapper();
-
-    public FoodService(FoodClient client) {
+    private final FoodResponseParser parser;
+    private final FoodSearchCache cache;
+    private final FoodLocalStore localStore;
+    private final FoodNameIndex nameIndex;
+    private final FoodAutocomplete autocomplete;
+    private final Executor searchExecutor;
+    private final FoodRanker ranker;
+    private final boolean parallel;
+    private final long deadlineNanos;
+
+    public FoodService(FoodClient client,
+            FoodResponseParser parser,
+            FoodSearchCache cache,
+            FoodLocalStore localStore,
+            FoodNameIndex nameIndex,
+            FoodAutocomplete autocomplete,
+            @Qualifier("foodSearchExecutor") Executor searchExecutor,
+            @Value("${nutri.search.parallel:true}") boolean parallel,
+            @Value("${nutri.search.deadline-ms:3000}") long deadlineMs,
+            @Value("${nutri.rank.edit-distance-weight:0}") double editDistanceWeight) {
         this.client = client;
+        this.parser = parser;
+        this.cache = cache;
+        this.localStore = localStore;
+        this.nameIndex = nameIndex;
+        this.autocomplete = autocomplete;
+        this.searchExecutor = searchExecutor;
+        this.ranker = FoodRanker.defaults(editDistanceWeight);
+        this.parallel = parallel;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, deadlineMs));
     }
 
     // 식품명으로 영양성분 정보 검색
@@ -35,200 +66,169 @@ public class FoodService {
 
         // 다양한 검색 키워드 조합을 생성합니다.
         List<String> searchQueries = createSearchQueries(q);
+
+        // 로컬 영양성분 DB에서 먼저 찾고, 이름에 질의가 포함된 식품이 없을 때만 공공데이터 API를 호출합니다.
+        List<FoodDTO> local = searchLocal(q, searchQueries, pageSafe * perPageSafe);
+        if (!local.isEmpty()) {
+            int from = Math.min((pageSafe - 1) * perPageSafe, local.size());
+            return local.subList(from, local.size());
+        }
+
         // 모든 검색 결과를 저장할 임시 목록
         Map<String, FoodDTO> allCandidates = new LinkedHashMap<>();
 
-        // 키워드 목록을 순회하며 모든 검색을 시도합니다.
-        for (String query : searchQueries) {
-            if (query.isEmpty()) {
-                continue;
-            }
-            try {
-                String body = client.searchByName(query, pageSafe, perPageSafe);
-                
-                System.out.println("➡️ 공공데이터 API 응답 (키워드: " + query + "): " + body);
-                
-                JsonNode root = om.readTree(body);
-
-                // API 응답 에러 체크
-                JsonNode header = root.path("response").path("header");
-                String resultCode = header.path("resultCode").asText("");
-                
-                if ("00".equals(resultCode)) {
-                    // 성공적으로 데이터를 받으면 파싱하여 모든 후보 목록에 추가
-                    parseFoodData(root).forEach(dto -> allCandidates.putIfAbsent(dto.getFoodNm(), dto));
-                } else if (!"03".equals(resultCode)) {
-                    // 데이터 없음(03) 외 다른 오류는 예외를 발생시킵니다.
-                    String msg = header.path("resultMsg").asText("");
-                    throw new IllegalStateException("공공데이터 오류: " + resultCode + " / " + msg);
-                }
-
-            } catch (Exception e) {
-                String msg = e.getMessage() == null ? e.toString() : e.getMessage();
-                System.err.println("❌ 키워드 '" + query + "' 파싱 실패: " + msg);
-            }
+        if (parallel) {
+            // 키워드를 동시에 요청하고, 마감 시간까지 도착한 결과만 사용합니다.
+            collectParallel(searchQueries, pageSafe, perPageSafe, allCandidates);
+        } else {
+            collectSequential(searchQueries, pageSafe, perPageSafe, allCandidates);
         }
         
         if (allCandidates.isEmpty()) {
-            System.out.println("⚠️ 모든 키워드 검색 실패. 빈 목록을 반환합니다.");
-            return List.of();
+            // 원격에도 없으면 색인의 유사 일치(띄어쓰기/오타)라도 반환
+            List<FoodDTO> similar = searchSimilar(q, perPageSafe);
+            if (similar.isEmpty()) {
+                log.warn("[FOOD-SEARCH] all keywords failed for '{}', returning empty list", q);
+            }
+            return similar;
         }
 
+        // 새로 알게 된 식품명은 자동완성 트라이에 반영 (백그라운드 재구성 시 적용)
+        autocomplete.addAll(allCandidates.values());
+
         // 수집된 모든 후보 목록에 대해 순위를 매기고 필터링합니다.
         return rankAndFilterResults(new ArrayList<>(allCandidates.values()), q, perPageSafe);
     }
     
-    // 다양한 검색 키워드 조합을 생성하는 헬퍼 메서드
-    private List<String> createSearchQueries(String originalQuery) {
-        List<String> queries = new ArrayList<>();
-        // 1. 원본 키워드 (띄어쓰기 포함)
-        queries.add(originalQuery);
-        // 2. 공백 제거 키워드
-        queries.add(originalQuery.replace(" ", ""));
-        // 3. 핵심 단어 조합 (두 단어인 경우)
-        String[] words = originalQuery.split("\\s+");
-        if (words.length > 1) {
-            String combined = words[1] + " " + words[0];
-            queries.add(combined); // 예: '크런키 빼빼로'
-            queries.add(combined.replace(" ", "")); // 예: '크런키빼빼로'
+    // 로컬 검색 (nutri.local.enabled=false 면 생략): 메모리 n-gram 색인 적재가 끝났으면 색인, 아니면 DB
+    // 둘 다 이름에 질의가 포함된 식품만 (유사 일치만으로 원격 검색을 건너뛰면 실제 식품을 놓칠 수 있음)
+    private List<FoodDTO> searchLocal(String q, List<String> searchQueries, int limit) {
+        if (!localStore.isEnabled()) {
+            return List.of();
         }
-        // 중복 제거 및 빈 문자열 제거
-        return new ArrayList<>(new LinkedHashSet<>(queries));
+        if (nameIndex.isReady()) {
+            return nameIndex.searchContaining(q, limit);
+        }
+        List<FoodDTO> fromDb = localStore.search(searchQueries);
+        return fromDb.isEmpty() ? fromDb : rankAndFilterResults(fromDb, q, limit);
     }
 
-    // JSON 데이터를 FoodDTO로 파싱하는 헬퍼 메서드
-    private List<FoodDTO> parseFoodData(JsonNode root) {
-        Map<String, FoodDTO> dedup = new LinkedHashMap<>();
+    // 색인의 유사 일치 (원격 검색 결과가 없을 때만)
+    private List<FoodDTO> searchSimilar(String q, int limit) {
+        if (!localStore.isEnabled() || !nameIndex.isReady()) {
+            return List.of();
+        }
+        return nameIndex.search(q, limit);
+    }
 
-        JsonNode records = root.path("records");
-        if (records.isArray() && records.size() > 0) {
-            for (JsonNode n : records)
-                addIfPresent(dedup, n);
-        } else {
-            JsonNode data = root.path("data");
-            if (data.isArray() && data.size() > 0) {
-                for (JsonNode n : data)
-                    addIfPresent(dedup, n);
-            } else {
-                JsonNode items = root.path("response").path("body").path("items").path("item");
-                if (items.isArray()) {
-                    for (JsonNode n : items)
-                        addIfPresent(dedup, items);
-                } else if (items.isObject()) {
-                    addIfPresent(dedup, items);
-                } else {
-                    for (JsonNode n : findParentsAny(root, NAME_KEYS))
-                        addIfPresent(dedup, n);
-                    for (JsonNode n : findParentsAny(root, KCAL_KEYS))
-                        addIfPresent(dedup, n);
-                }
+    // 키워드 목록을 순회하며 모든 검색을 차례로 시도합니다.
+    private void collectSequential(List<String> queries, int page, int rows, Map<String, FoodDTO> out) {
+        for (String query : queries) {
+            if (query.isEmpty()) {
+                continue;
+            }
+            try {
+                fetchVariant(query, page, rows).forEach(dto -> out.putIfAbsent(dto.getFoodNm(), dto));
+            } catch (Exception e) {
+                logVariantFailure(query, e);
             }
         }
-        return new ArrayList<>(dedup.values());
     }
 
-    // 검색 결과에 순위를 매기고 상위 결과를 반환합니다.
-    private List<FoodDTO> rankAndFilterResults(List<FoodDTO> candidates, String originalQuery, int perPage) {
-        String[] originalWords = originalQuery.toLowerCase().split("\\s+");
-        
-        return candidates.stream()
-            .sorted((a, b) -> {
-                String aName = a.getFoodNm().toLowerCase();
-                String bName = b.getFoodNm().toLowerCase();
-                
-                // 1. 키워드 일치 개수 비교
-                long aMatches = Arrays.stream(originalWords).filter(word -> aName.contains(word)).count();
-                long bMatches = Arrays.stream(originalWords).filter(word -> bName.contains(word)).count();
-                if (aMatches != bMatches) {
-                    return Long.compare(bMatches, aMatches);
-                }
+    // 모든 키워드를 검색 풀에 동시에 제출하고, 전체 마감 시간 안에 끝난 결과만 모읍니다.
+    // 결과는 키워드 순서대로 합쳐 순위 계산이 실행 순서에 좌우되지 않게 합니다.
+    private void collectParallel(List<String> queries, int page, int rows, Map<String, FoodDTO> out) {
+        long deadline = System.nanoTime() + deadlineNanos;
+
+        List<String> submitted = new ArrayList<>();
+        List<CompletableFuture<List<FoodDTO>>> futures = new ArrayList<>();
+        for (String query : queries) {
+            if (query.isEmpty()) {
+                continue;
+            }
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> fetchVariant(query, page, rows), searchExecutor));
+                submitted.add(query);
+            } catch (RejectedExecutionException e) {
+                log.warn("[FOOD-SEARCH] pool saturated, skipped keyword '{}'", query);
+            }
+        }
 
-                // 2. 부가 데이터 존재 여부
-                // FoodDTO에 단백질, 지방, 탄수화물 필드가 있다고 가정하고 비교합니다.
-                // 만약 해당 필드가 없는 경우, FoodDTO 클래스에 필드를 추가해야 합니다.
-                // 임시로 칼로리(enerc)만 있는 경우를 가정하여 비교합니다.
-                int aHasMoreData = a.getEnerc() != null ? 1 : 0;
-                int bHasMoreData = b.getEnerc() != null ? 1 : 0;
-                if (aHasMoreData != bHasMoreData) {
-                    return Integer.compare(bHasMoreData, aHasMoreData);
+        for (int i = 0; i < futures.size(); i++) {
+            String query = submitted.get(i);
+            CompletableFuture<List<FoodDTO>> future = futures.get(i);
+            try {
+                long remaining = deadline - System.nanoTime();
+                List<FoodDTO> result = remaining > 0
+                        ? future.get(remaining, TimeUnit.NANOSECONDS)
+                        : future.getNow(null);
+                if (result == null) {
+                    log.warn("[FOOD-SEARCH] keyword '{}' missed the deadline", query);
+                    continue;
                 }
+                result.forEach(dto -> out.putIfAbsent(dto.getFoodNm(), dto));
+            } catch (TimeoutException e) {
+                // 늦게 끝난 호출도 결과는 캐시에 저장되므로 다음 검색에서 활용됩니다.
+                log.warn("[FOOD-SEARCH] keyword '{}' missed the deadline", query);
+            } catch (ExecutionException e) {
+                logVariantFailure(query, e.getCause() == null ? e : e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
 
-                // 3. 이름 길이 비교 (더 짧은 이름이 더 정확할 가능성)
-                return Integer.compare(aName.length(), bName.length());
-            })
-            .limit(perPage)
-            .collect(Collectors.toList());
+    private static void logVariantFailure(String query, Throwable e) {
+        String msg = e.getMessage() == null ? e.toString() : e.getMessage();
+        log.warn("[FOOD-SEARCH] keyword '{}' failed - {}", query, msg);
     }
 
-    // JSON 노드에서 식품 정보 추출하여 맵에 추가
-    private void addIfPresent(Map<String, FoodDTO> out, JsonNode n) {
-        if (n == null || n.isNull())
-            return;
-        String name = firstText(n, NAME_KEYS);
-        if (name.isBlank())
-            return;
-        Double kcal = firstNumber(n, KCAL_KEYS);
-        if (kcal == null)
-            return;
-        out.putIfAbsent(name, FoodDTO.builder().foodNm(name).enerc(kcal).build());
+    // 키워드 하나에 대한 검색 결과 (캐시 우선, 미스일 때만 공공데이터 API 호출)
+    private List<FoodDTO> fetchVariant(String query, int page, int rows) {
+        return cache.get(query, page, rows, () -> requestVariant(query, page, rows));
     }
 
-    // 여러 키 중에서 첫 번째로 찾은 텍스트 값 반환
-    private static String firstText(JsonNode n, List<String> keys) {
-        for (String k : keys) {
-            JsonNode v = n.get(k);
-            if (v != null && !v.isNull()) {
-                String s = v.asText("").trim();
-                if (!s.isEmpty())
-                    return s;
-            }
+    // 공공데이터 API 호출 + 파싱 (오류 응답은 예외로 던져 캐시되지 않게 함)
+    private List<FoodDTO> requestVariant(String query, int page, int rows) {
+        // 응답 스트림에서 이름/열량만 바로 추출 (본문 문자열/JSON 트리 생성 없음)
+        FoodResponseParser.FoodPage parsed = client.searchByName(query, page, rows, parser::parse);
+
+        log.debug("[FOOD-SEARCH] API response for '{}': {} / {} items", query, parsed.resultCode(),
+                parsed.items().size());
+
+        if (parsed.isSuccess()) {
+            return parsed.items();
         }
-        return "";
+        if (parsed.isNoData()) {
+            // 데이터 없음(03)은 빈 결과로 캐시
+            return List.of();
+        }
+        // 그 외 오류는 예외를 발생시킵니다.
+        throw new IllegalStateException("공공데이터 오류: " + parsed.resultCode() + " / " + parsed.resultMsg());
     }
 
-    // 여러 키 중에서 첫 번째로 찾은 숫자 값 반환
-    private static Double firstNumber(JsonNode n, List<String> keys) {
-        for (String k : keys) {
-            JsonNode v = n.get(k);
-            if (v == null || v.isNull())
-                continue;
-            try {
-                if (v.isNumber())
-                    return v.doubleValue();
-                String raw = v.asText("").trim();
-                if (raw.isEmpty())
-                    continue;
-                raw = raw.replace(",", "");
-                StringBuilder sb = new StringBuilder();
-                boolean dot = false, sign = false;
-                for (char c : raw.toCharArray()) {
-                    if (Character.isDigit(c))
-                        sb.append(c);
-                    else if (c == '.' && !dot) {
-                        dot = true;
-                        sb.append(c);
-                    } else if ((c == '+' || c == '-') && !sign && sb.length() == 0) {
-                        sign = true;
-                        sb.append(c);
-                    } else if (sb.length() > 0)
-                        break;
-                }
-                if (sb.length() > 0)
-                    return Double.valueOf(sb.toString());
-            } catch (Exception ignore) {
-            }
+    // 다양한 검색 키워드 조합을 생성하는 헬퍼 메서드
+    private List<String> createSearchQueries(String originalQuery) {
+        List<String> queries = new ArrayList<>();
+        // 1. 원본 키워드 (띄어쓰기 포함)
+        queries.add(originalQuery);
+        // 2. 공백 제거 키워드
+        queries.add(originalQuery.replace(" ", ""));
+        // 3. 핵심 단어 조합 (두 단어인 경우)
+        String[] words = originalQuery.split("\\s+");
+        if (words.length > 1) {
+            String combined = words[1] + " " + words[0];
+            queries.add(combined); // 예: '크런키 빼빼로'
+            queries.add(combined.replace(" ", "")); // 예: '크런키빼빼로'
         }
-        return null;
+        // 중복 제거 및 빈 문자열 제거
+        return new ArrayList<>(new LinkedHashSet<>(queries));
     }
 
-    // 여러 키 중 하나라도 포함하는 부모 노드들 찾기
-    private static Collection<JsonNode> findParentsAny(JsonNode root, List<String> keys) {
-        Set<JsonNode> set = new LinkedHashSet<>();
-        for (String k : keys) {
-            List<JsonNode> found = root.findParents(k);
-            if (found != null)
-                set.addAll(found);
-        }
-        return set;
+    // 검색 결과에 순위를 매기고 상위 결과를 반환합니다.
+    // 후보별 점수는 한 번만 계산하고, 상위 perPage 개만 힙으로 선택합니다. (FoodRanker 참고)
+    private List<FoodDTO> rankAndFilterResults(List<FoodDTO> candidates, String originalQuery, int perPage) {
+        return ranker.topK(candidates, originalQuery, perPage);
     }
 }
@@ -0,0 +1,43 @@
+package com.example.health_care.service;
+
+// 한글 음절 → 호환 자모(ㄱ, ㅏ ...) 분해 도우미
+final class HangulJamo {
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    // 겹받침/이중모음 → 입력 순서대로 쪼갠 자모 (키 입력 중간 상태와 접두어가 맞도록)
+    private static final String COMPOUND_FROM = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_TO = { "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ",
+            "ㄹㅎ", "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ" };
+
+    private HangulJamo() {
+    }
+
+    // 음절이면 초성/중성/종성을 붙이고, 아니면 글자 그대로 붙임
+    static void append(StringBuilder sb, char c, boolean splitCompound) {
+        if (c < HANGUL_BASE || c > HANGUL_LAST) {
+            appendJamo(sb, c, splitCompound);
+            return;
+        }
+        int offset = c - HANGUL_BASE;
+        sb.append(CHOSEONG[offset / (21 * 28)]);
+        appendJamo(sb, JUNGSEONG[(offset % (21 * 28)) / 28], splitCompound);
+        int jong = offset % 28;
+        if (jong != 0) {
+            appendJamo(sb, JONGSEONG[jong], splitCompound);
+        }
+    }
+
+    private static void appendJamo(StringBuilder sb, char c, boolean splitCompound) {
+        int i = splitCompound ? COMPOUND_FROM.indexOf(c) : -1;
+        if (i >= 0) {
+            sb.append(COMPOUND_TO[i]);
+        } else {
+            sb.append(c);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.health_care.service;
 
+import com.example.health_care.dto.AttendanceRankingDTO;
 import com.example.health_care.dto.CustomersProfileDTO;
 import com.example.health_care.entity.BodyEntity;
 import com.example.health_care.entity.CustomersEntity;
 import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.BodyRepository;
+import com.example.health_care.service.AttendanceLeaderboard.Metric;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +20,14 @@ public class RankingService {
 
     private final CustomersRepository customersRepository;
     private final BodyRepository bodyRepository;
+    private final AttendanceLeaderboard leaderboard;
+    private final CustomerIdentityResolver identity;
+
+    @Value("${attendance.ranking.max-limit:100}")
+    private int maxLimit;
+
+    @Value("${attendance.ranking.max-around:10}")
+    private int maxAround;
 
     public List<CustomersProfileDTO> getAllCustomersProfile() {
         List<CustomersEntity> customers = customersRepository.findAll();
@@ -26,6 +37,34 @@ public class RankingService {
                 .collect(Collectors.toList());
     }
 
+    // 출석 랭킹: 상위 limit 명 + (customerIdx 가 있으면) 내 순위와 위아래 around 명
+    public AttendanceRankingDTO getAttendanceRanking(String by, int limit, int around, Long customerIdx) {
+        Metric metric = "coins".equalsIgnoreCase(by) ? Metric.COINS : Metric.STREAK;
+        int n = Math.max(1, Math.min(limit, maxLimit));
+        int radius = Math.max(0, Math.min(around, maxAround));
+
+        AttendanceLeaderboard.Row me = customerIdx == null ? null : leaderboard.rankOf(metric, customerIdx);
+        return AttendanceRankingDTO.builder()
+                .by(metric.name().toLowerCase())
+                .total(leaderboard.size())
+                .top(toEntries(leaderboard.top(metric, n)))
+                .me(me == null ? null : toEntry(me))
+                .around(me == null ? List.of() : toEntries(leaderboard.around(metric, customerIdx, radius)))
+                .build();
+    }
+
+    private List<AttendanceRankingDTO.Entry> toEntries(List<AttendanceLeaderboard.Row> rows) {
+        return rows.stream().map(this::toEntry).collect(Collectors.toList());
+    }
+
+    private AttendanceRankingDTO.Entry toEntry(AttendanceLeaderboard.Row row) {
+        return AttendanceRankingDTO.Entry.builder()
+                .rank(row.rank())
+                .id(identity.idOf(row.customerIdx()))
+                .score(row.score())
+                .build();
+    }
+
     private CustomersProfileDTO convertToDto(CustomersEntity customer) {
         // CustomersEntity의 idx를 이용해 BodyRepository에서 최신 BodyEntity를 조회합니다.
         Optional<BodyEntity> latestBodyOptional = bodyRepository.findTopByCustomer_IdxOrderByIdxDesc(customer.getIdx());
@@ -25,15 +25,25 @@ public class RecordService {
     private final CustomersRepository customersRepository;
     private final GoalRepository goalRepository;
     private final RecordRepository recordRepository;
+    private final CustomerIdentityResolver identity;
+
+    // id → idx 는 캐시에서 변환, 엔티티는 조회 없이 참조만 (FK 용)
+    private Long requireIdx(String customerId) {
+        Long idx = identity.idxOf(customerId);
+        if (idx == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return idx;
+    }
 
     // 💡 일일 식단 기록을 저장하는 메서드
     @Transactional
     public void saveRecordInfo(String customerId, RecordRequest recordRequest) {
-        CustomersEntity customer = customersRepository.findById(customerId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+        Long customerIdx = requireIdx(customerId);
+        CustomersEntity customer = customersRepository.getReferenceById(customerIdx);
 
         // 최신 목표 정보를 가져와서 RECORD 테이블에 함께 저장
-        Optional<GoalEntity> latestGoal = goalRepository.findTopByCustomer_IdxOrderByIdxDesc(customer.getIdx());
+        Optional<GoalEntity> latestGoal = goalRepository.findTopByCustomer_IdxOrderByIdxDesc(customerIdx);
 
         RecordEntity recordEntity = RecordEntity.builder()
                 .customer(customer)
@@ -51,9 +61,6 @@ public class RecordService {
     // 💡 일일 식단 기록 이력을 조회하는 메서드
     @Transactional(readOnly = true)
     public List<RecordEntity> getRecordHistory(String customerId) {
-        CustomersEntity customer = customersRepository.findById(customerId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-
-        return recordRepository.findByCustomer_IdxOrderByIdxDesc(customer.getIdx());
+        return recordRepository.findByCustomer_IdxOrderByIdxDesc(requireIdx(customerId));
     }
 }
\ No newline at end of file
@@ -10,10 +10,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.health_care.dto.RecoveryDTO.*;
-import com.example.health_care.entity.CustomersEntity;
 import com.example.health_care.entity.RecoveryEntity;
 import com.example.health_care.entity.RecoveryQuestionCode;
-import com.example.health_care.repository.CustomersRepository;
 import com.example.health_care.repository.RecoveryRepository;
 import com.example.health_care.security.JwtTokenProvider;
 
@@ -27,10 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 public class RecoveryService {
 
     private final RecoveryRepository repo;
-    private final CustomersRepository customersRepo;
     private final PasswordEncoder encoder;
     private final CustomersService customersService;
     private final TokenTool tokenTool;
+    private final CustomerIdentityResolver identity;
 
     private String norm(String s) {
         return s == null ? "" : s.trim().toLowerCase();
@@ -38,9 +36,11 @@ public class RecoveryService {
 
     // 이메일(id)을 고객의 고유 번호(idx)로 변환하는 헬퍼 메서드
     private Long getCustomerIdx(String customerId) {
-        return customersRepo.findById(customerId)
-                .map(CustomersEntity::getIdx)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long idx = identity.idxOf(customerId);
+        if (idx == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        return idx;
     }
 
     @Transactional
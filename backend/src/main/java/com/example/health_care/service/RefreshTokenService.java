@@ -0,0 +1,135 @@
+package com.example.health_care.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.health_care.entity.RefreshTokenEntity;
+import com.example.health_care.repository.RefreshTokenRepository;
+import com.example.health_care.security.TokenDigests;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재발급(refresh) 토큰 관리
+ *
+ * - 접근 토큰은 짧게(기본 10분) 발급하고 폐기 여부는 여기서, 재발급할 때만 확인
+ * - 재발급할 때마다 새 토큰으로 교체(rotation)하고 이전 토큰은 교체 표시만 남김
+ * - 교체된 토큰이 다시 쓰이면 탈취로 보고 같은 family(로그인 한 번) 전체를 폐기
+ * 테이블에는 family 당 현재 토큰 + 직전 토큰만 남으므로 크기는 활성 세션 수에 비례합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repository;
+    private final TransactionTemplate tx;
+
+    @Value("${jwt.refresh.ttl-days:14}")
+    private long ttlDays;
+
+    @Value("${jwt.refresh.purge-chunk-size:500}")
+    private int purgeChunkSize;
+
+    public record Issued(String token, String userId, LocalDateTime expiresAt) {
+    }
+
+    // 로그인 시 새 family 로 발급
+    @Transactional
+    public Issued issue(String userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    // 유효한 토큰이면 교체 후 새 토큰 반환, 없음/만료/재사용이면 empty
+    @Transactional
+    public Optional<Issued> rotate(String token) {
+        RefreshTokenEntity current = repository.findByTokenHash(TokenDigests.sha256Hex(token)).orElse(null);
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            repository.deleteFamily(current.getFamilyId());
+            return Optional.empty();
+        }
+        String familyId = current.getFamilyId();
+        if (current.isRotated()) {
+            log.warn("[REFRESH] reused refresh token, revoking family of user {}", current.getUserId());
+            repository.deleteFamily(familyId);
+            return Optional.empty();
+        }
+        // 재사용 감지에는 직전 토큰 하나면 충분 → 더 오래된 교체 토큰은 지우고 현재 토큰을 교체 표시
+        repository.deleteRotatedInFamily(familyId);
+        if (repository.markRotated(current.getId()) == 0) {
+            // 같은 토큰으로 동시에 재발급 → 한 쪽만 성공, 나머지는 재사용으로 처리
+            log.warn("[REFRESH] concurrent refresh with one token, revoking family of user {}", current.getUserId());
+            repository.deleteFamily(familyId);
+            return Optional.empty();
+        }
+        return Optional.of(issue(current.getUserId(), familyId));
+    }
+
+    // 로그아웃: 토큰이 속한 family 전체 폐기
+    @Transactional
+    public void revoke(String token) {
+        repository.findByTokenHash(TokenDigests.sha256Hex(token))
+                .ifPresent(e -> repository.deleteFamily(e.getFamilyId()));
+    }
+
+    // 만료된 행을 purgeChunkSize 건씩 각자 트랜잭션으로 삭제, 삭제한 총 행 수 반환
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int chunk = Math.max(1, purgeChunkSize);
+        int total = 0;
+        while (true) {
+            Integer deleted = tx.execute(status -> repository.deleteExpiredChunk(now, chunk));
+            int n = deleted == null ? 0 : deleted;
+            total += n;
+            if (n < chunk) {
+                return total;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jwt.refresh.purge-initial-delay-ms:90000}",
+            fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    public void purgeExpiredScheduled() {
+        try {
+            int deleted = purgeExpired();
+            if (deleted > 0) {
+                log.info("[REFRESH] purged {} expired rows", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("[REFRESH] purge failed - {}", e.getMessage());
+        }
+    }
+
+    private Issued issue(String userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(Duration.ofDays(Math.max(1, ttlDays)));
+        repository.save(RefreshTokenEntity.builder()
+                .tokenHash(TokenDigests.sha256Hex(token))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .rotated(false)
+                .build());
+        return new Issued(token, userId, expiresAt);
+    }
+}
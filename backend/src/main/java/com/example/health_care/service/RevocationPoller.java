@@ -0,0 +1,149 @@
+package com.example.health_care.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.health_care.entity.BlacklistedTokenEntity;
+import com.example.health_care.repository.BlacklistedTokenRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다른 서버에서 생긴 폐기 토큰을 메모리 색인에 반영 (여러 대로 띄울 때)
+ *
+ * - blacklisted_tokens.id 는 BLK_TOK_SEQ 로 증가하므로, 마지막으로 본 id 이후 행만 주기적으로 가져옴
+ * - 시퀀스 순서와 커밋 순서가 다를 수 있어 poll-overlap-ms 전의 id 부터 다시 읽음 (중복 반영은 무해)
+ * - 마지막 성공이 max-staleness-ms 보다 오래되면 isFresh() 가 false → 호출 쪽은 DB 로 확인
+ * 반영 지연은 jwt.revocation.propagation (행 생성 → 이 서버 반영), 현재 지연은 jwt.revocation.poll.age 로 측정합니다.
+ */
+@Slf4j
+@Component
+public class RevocationPoller {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final BlacklistedTokenRepository repository;
+    private final TokenRevocationIndex index;
+    private final boolean enabled;
+    private final long overlapMillis;
+    private final long maxStalenessMillis;
+    private final Timer propagation;
+    private final LongSupplier clock;
+
+    // -1: 아직 시작 전 (기동 시 적재가 끝나야 시작)
+    private volatile long watermark = -1;
+    private volatile long lastSuccessMillis;
+    // (폴링 시각, 그때까지 본 최대 id) — poll() 안에서만 사용
+    private final Deque<long[]> history = new ArrayDeque<>();
+
+    @Autowired
+    public RevocationPoller(BlacklistedTokenRepository repository, TokenRevocationIndex index,
+            MeterRegistry registry,
+            @Value("${jwt.revocation.poll-enabled:true}") boolean enabled,
+            @Value("${jwt.revocation.poll-overlap-ms:5000}") long overlapMillis,
+            @Value("${jwt.revocation.max-staleness-ms:10000}") long maxStalenessMillis) {
+        this(repository, index, registry, enabled, overlapMillis, maxStalenessMillis, System::currentTimeMillis);
+    }
+
+    RevocationPoller(BlacklistedTokenRepository repository, TokenRevocationIndex index, MeterRegistry registry,
+            boolean enabled, long overlapMillis, long maxStalenessMillis, LongSupplier clock) {
+        this.clock = clock;
+        this.repository = repository;
+        this.index = index;
+        this.enabled = enabled;
+        this.overlapMillis = Math.max(0, overlapMillis);
+        this.maxStalenessMillis = Math.max(1, maxStalenessMillis);
+        this.propagation = Timer.builder("jwt.revocation.propagation")
+                .description("다른 서버의 폐기가 이 서버에 반영되기까지 걸린 시간 (서버 간 시계 차 포함)")
+                .register(registry);
+        Gauge.builder("jwt.revocation.poll.age", this, p -> p.lastSuccessMillis == 0 ? Double.NaN
+                : p.clock.getAsLong() - p.lastSuccessMillis)
+                .description("마지막 폴링 성공 이후 경과 ms").baseUnit("milliseconds").register(registry);
+    }
+
+    // 기동 시 적재를 마친 뒤 그때까지 본 최대 id 로 시작
+    public synchronized void start(long maxSeenId) {
+        long now = clock.getAsLong();
+        watermark = Math.max(0, maxSeenId);
+        history.clear();
+        history.addLast(new long[] { now, watermark });
+        lastSuccessMillis = now;
+    }
+
+    // 색인이 충분히 최신인지 (꺼져 있으면 항상 true)
+    public boolean isFresh() {
+        return !enabled || (lastSuccessMillis > 0
+                && clock.getAsLong() - lastSuccessMillis <= maxStalenessMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!enabled || watermark < 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        try {
+            long after = lowWater(now);
+            long max = watermark;
+            while (true) {
+                List<BlacklistedTokenEntity> rows = repository.findTop500ByIdGreaterThanOrderByIdAsc(after);
+                for (BlacklistedTokenEntity e : rows) {
+                    apply(e, now);
+                    after = e.getId();
+                    max = Math.max(max, after);
+                }
+                if (rows.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+            watermark = max;
+            history.addLast(new long[] { now, max });
+            lastSuccessMillis = now;
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] revocation poll failed - {}", e.getMessage());
+        }
+    }
+
+    private void apply(BlacklistedTokenEntity e, long now) {
+        if (index.isRevoked(e.getTokenHash())) {
+            return; // 이 서버에서 폐기했거나 이미 반영됨
+        }
+        long expiresAt = toEpochMillis(e.getExpiresAt());
+        index.add(e.getTokenHash(), expiresAt);
+        if (e.getCreatedAt() != null && expiresAt > now) {
+            propagation.record(Math.max(0, now - toEpochMillis(e.getCreatedAt())), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // overlap 이전 시점까지 본 최대 id (그보다 늦게 커밋된 작은 id 를 놓치지 않도록)
+    private long lowWater(long now) {
+        long cutoff = now - overlapMillis;
+        while (history.size() > 1) {
+            Iterator<long[]> it = history.iterator();
+            it.next();
+            if (it.next()[0] > cutoff) {
+                break;
+            }
+            history.removeFirst();
+        }
+        return history.isEmpty() ? watermark : history.peekFirst()[1];
+    }
+
+    private static long toEpochMillis(LocalDateTime t) {
+        return t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,41 +1,149 @@
 package com.example.health_care.service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.health_care.entity.BlacklistedTokenEntity;
 import com.example.health_care.repository.BlacklistedTokenRepository;
+import com.example.health_care.security.TokenDigests;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class TokenBlacklistService {
 
     private final BlacklistedTokenRepository repository;
+    private final TokenRevocationIndex index;
+    private final TransactionTemplate tx;
+    private final RevocationPoller poller;
 
-    @Transactional(readOnly = true)
+    @Value("${jwt.revocation.purge-chunk-size:500}")
+    private int purgeChunkSize;
+
+    // 기동 시 테이블을 메모리 색인에 적재하기 전까지는 DB 로 확인
+    private volatile boolean warmedUp = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void warmUp() {
+        if (warmedUp) {
+            return;
+        }
+        try {
+            int loaded = 0;
+            long maxId = 0;
+            for (BlacklistedTokenEntity e : repository.findByExpiresAtAfter(LocalDateTime.now())) {
+                index.add(e.getTokenHash(), toEpochMillis(e.getExpiresAt()));
+                maxId = Math.max(maxId, e.getId());
+                loaded++;
+            }
+            // 이후 다른 서버에서 생긴 행은 id 순으로 폴링해서 반영
+            poller.start(maxId);
+            warmedUp = true;
+            log.info("[BLACKLIST] loaded {} revoked tokens into memory", loaded);
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] warm-up failed, falling back to DB lookups until retry - {}", e.getMessage());
+        }
+    }
+
+    // 기동 시 적재가 실패했으면 주기적으로 다시 시도 (성공해야 폴러도 시작되고 메모리 확인으로 전환)
+    @Scheduled(initialDelayString = "${jwt.revocation.warmup-retry-ms:30000}",
+            fixedDelayString = "${jwt.revocation.warmup-retry-ms:30000}")
+    public void retryWarmUp() {
+        if (!warmedUp) {
+            warmUp();
+        }
+    }
+
+    // 폐기되지 않은 토큰은 메모리에서 바로 false (DB 조회 없음)
+    // 폴링이 max-staleness-ms 넘게 실패하고 있으면 다른 서버의 폐기를 놓칠 수 있으므로 DB 로 확인
     public boolean isBlacklisted(String token) {
-        return repository.existsByToken(token);
+        String digest = TokenDigests.sha256Hex(token);
+        if (warmedUp && poller.isFresh()) {
+            return index.isRevoked(digest);
+        }
+        return repository.existsByTokenHash(digest);
     }
 
     @Transactional
     public void blacklist(String token, String userId, LocalDateTime expiresAt, String reason) {
-        if (repository.existsByToken(token)) return;
+        String digest = TokenDigests.sha256Hex(token);
+        long expiresMillis = toEpochMillis(expiresAt);
+        if (repository.existsByTokenHash(digest)) {
+            index.add(digest, expiresMillis);
+            return;
+        }
         BlacklistedTokenEntity e = BlacklistedTokenEntity.builder()
-                .token(token)
+                .tokenHash(digest)
                 .userId(userId)
                 .expiresAt(expiresAt)
                 .createdAt(LocalDateTime.now())
                 .reason(reason)
                 .build();
         repository.save(e);
+        // 커밋된 뒤에만 메모리 색인에 반영 (롤백된 폐기가 이 서버에만 남지 않도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index.add(digest, expiresMillis);
+                }
+            });
+        } else {
+            index.add(digest, expiresMillis);
+        }
     }
 
-    @Transactional
+    // 만료된 행을 purgeChunkSize 건씩 각자 트랜잭션으로 삭제, 삭제한 총 행 수 반환
     public int purgeExpired() {
-        return repository.deleteAllExpired(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        int chunk = Math.max(1, purgeChunkSize);
+        int total = 0;
+        while (true) {
+            Integer deleted = tx.execute(status -> repository.deleteExpiredChunk(now, chunk));
+            int n = deleted == null ? 0 : deleted;
+            total += n;
+            if (n < chunk) {
+                return total;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.purge-initial-delay-ms:60000}",
+            fixedDelayString = "${jwt.revocation.purge-interval-ms:3600000}")
+    public void purgeExpiredScheduled() {
+        try {
+            int deleted = purgeExpired();
+            if (deleted > 0) {
+                log.info("[BLACKLIST] purged {} expired rows", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] purge failed - {}", e.getMessage());
+        }
+    }
+
+    // 만료가 지난 토큰은 메모리 색인에서 제거 (블룸 필터 재구성)
+    @Scheduled(fixedDelayString = "${jwt.revocation.trim-interval-ms:300000}")
+    public void trimExpired() {
+        int removed = index.removeExpired();
+        if (removed > 0) {
+            log.debug("[BLACKLIST] trimmed {} expired tokens from memory", removed);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime t) {
+        return t.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
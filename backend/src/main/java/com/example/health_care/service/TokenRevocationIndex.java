@@ -0,0 +1,114 @@
+package com.example.health_care.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그아웃(폐기)된 토큰의 프로세스 내 색인
+ *
+ * - 블룸 필터: "폐기되지 않음" 을 메모리에서 바로 판정 (대부분의 요청은 여기서 끝남)
+ * - 다이제스트 → 만료 시각 맵: 블룸 필터가 "있을 수도" 라고 할 때 확정
+ * 블룸 필터는 삭제가 안 되므로, 만료 항목을 정리할 때 남은 항목으로 새로 만들어 교체합니다.
+ */
+@Component
+public class TokenRevocationIndex {
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloom;
+
+    public TokenRevocationIndex(MeterRegistry registry,
+            @Value("${jwt.revocation.expected-tokens:100000}") int expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        this.falsePositiveRate = Math.min(Math.max(falsePositiveRate, 1e-6), 0.5);
+        this.bloom = new BloomFilter(this.expectedInsertions, this.falsePositiveRate);
+
+        Gauge.builder("jwt.revocation.size", revoked, Map::size)
+                .description("메모리에 보관 중인 폐기 토큰 수").register(registry);
+    }
+
+    public void add(String digest, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        // 맵 먼저 → 블룸 필터 (필터가 true 를 돌려줄 때는 맵에도 이미 있음)
+        revoked.put(digest, expiresAtMillis);
+        bloom.add(digest);
+    }
+
+    public boolean isRevoked(String digest) {
+        if (!bloom.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(digest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 만료된 다이제스트를 지우고 남은 항목으로 블룸 필터를 다시 만듦, 제거 수 반환
+    public int removeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(exp -> exp <= now);
+
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        revoked.keySet().forEach(next::add);
+        bloom = next;
+        // 교체 중에 추가된 항목이 이전 필터에만 들어갔을 수 있으므로 한 번 더 반영
+        revoked.keySet().forEach(next::add);
+        return Math.max(0, before - revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    // 비트 배열 블룸 필터 (SHA-256 hex 다이제스트의 앞 128bit 로 이중 해싱)
+    static final class BloomFilter {
+        private final AtomicLongArray words;
+        private final long bits;
+        private final int hashes;
+
+        BloomFilter(int expected, double fpp) {
+            long m = (long) Math.ceil(-expected * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bits = Math.max(64, ((m + 63) / 64) * 64);
+            this.words = new AtomicLongArray((int) (bits / 64));
+            this.hashes = Math.max(1, (int) Math.round((double) bits / expected * Math.log(2)));
+        }
+
+        void add(String digest) {
+            long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+            long h2 = Long.parseUnsignedLong(digest, 16, 32, 16) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+                int w = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long cur;
+                while (((cur = words.get(w)) & mask) == 0 && !words.compareAndSet(w, cur, cur | mask)) {
+                    // 다른 스레드가 같은 워드를 바꿨으면 재시도
+                }
+            }
+        }
+
+        boolean mightContain(String digest) {
+            long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+            long h2 = Long.parseUnsignedLong(digest, 16, 32, 16) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+-- =========================================================
+-- ATTENDANCE_SUMMARY: 고객별 누적 출석 집계 (체크인마다 같은 트랜잭션에서 갱신)
+--  - 상태 조회는 이 행 하나만 읽음
+--  - 행이 없는 기존 고객은 첫 상태 조회 때 attendance_log 로 계산해서 채움
+-- =========================================================
+CREATE TABLE attendance_summary (
+  customer_id     NUMBER          NOT NULL,
+  first_date      DATE            NOT NULL,
+  last_date       DATE            NOT NULL,
+  total_days      NUMBER(10)      NOT NULL,
+  streak          NUMBER(10)      NOT NULL,  -- last_date 에서 끝나는 연속 출석
+  month_key       VARCHAR2(7)     NOT NULL,  -- last_date 의 월 (yyyy-MM)
+  month_days      NUMBER(5)       NOT NULL,  -- month_key 월의 출석일 수
+  month_streak    NUMBER(5)       NOT NULL,  -- month_key 월 1일부터 이어진 연속 출석
+  perfect_months  VARCHAR2(4000),            -- 개근한 달 목록 "yyyy-MM,yyyy-MM"
+  updated_at      TIMESTAMP       NOT NULL,
+  CONSTRAINT pk_attendance_summary PRIMARY KEY (customer_id),
+  CONSTRAINT fk_attendance_summary_customer
+    FOREIGN KEY (customer_id) REFERENCES customers(idx) ON DELETE CASCADE
+);
+
+SELECT * FROM attendance_summary;
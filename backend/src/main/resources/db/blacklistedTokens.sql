@@ -1,12 +1,13 @@
 CREATE TABLE blacklisted_tokens (
   id           NUMBER(19)      PRIMARY KEY,
-  token        VARCHAR2(1024)  NOT NULL UNIQUE,
+  token_hash   VARCHAR2(64)    NOT NULL UNIQUE,   -- 토큰 SHA-256 hex (원문은 저장하지 않음)
   user_id      VARCHAR2(100)   NOT NULL,
   expires_at   TIMESTAMP       NOT NULL,
   created_at   TIMESTAMP       NOT NULL,
   reason       VARCHAR2(100)
 );
 
+CREATE INDEX idx_blk_tok_expires ON blacklisted_tokens (expires_at);
 
 CREATE SEQUENCE BLK_TOK_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
 
@@ -0,0 +1,22 @@
+-- ==========================
+-- 기존 blacklisted_tokens(token 원문 컬럼) → token_hash 로 전환
+-- 파일명: blacklistedTokensDigest.sql
+-- (ddl-auto: update 는 컬럼을 지우거나 NOT NULL 을 바꾸지 않으므로 배포 전에 한 번 직접 실행,
+--  새로 만드는 DB 는 blacklistedTokens.sql 만 실행)
+-- ==========================
+ALTER TABLE blacklisted_tokens ADD token_hash VARCHAR2(64);
+
+UPDATE blacklisted_tokens SET token_hash = LOWER(RAWTOHEX(STANDARD_HASH(token, 'SHA256')));
+COMMIT;
+
+ALTER TABLE blacklisted_tokens MODIFY token_hash NOT NULL;
+
+ALTER TABLE blacklisted_tokens ADD CONSTRAINT uk_blk_tok_hash UNIQUE (token_hash);
+
+ALTER TABLE blacklisted_tokens DROP COLUMN token;
+
+-- 만료 행 일괄 삭제(deleteExpiredChunk)용
+CREATE INDEX idx_blk_tok_expires ON blacklisted_tokens (expires_at);
+
+
+SELECT * FROM blacklisted_tokens;
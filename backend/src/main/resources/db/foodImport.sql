@@ -0,0 +1,18 @@
+-- ==========================
+-- 영양성분 일괄 적재 체크포인트
+-- 파일명: foodImport.sql
+-- (ddl-auto: update 환경에서는 엔티티로 자동 생성됨)
+-- ==========================
+CREATE TABLE food_import_checkpoint (
+    job_name      VARCHAR2(50)  PRIMARY KEY,
+    next_page     NUMBER(10)    NOT NULL,
+    total_count   NUMBER(10),
+    imported_rows NUMBER(19)    NOT NULL,
+    status        VARCHAR2(20)  NOT NULL,
+    updated_at    TIMESTAMP     NOT NULL
+);
+
+-- food_info 는 이름(PK) 기준 MERGE로 적재됨
+ALTER TABLE food_info ADD CONSTRAINT pk_food_info PRIMARY KEY (food_name);
+
+SELECT * FROM food_import_checkpoint;
@@ -0,0 +1,16 @@
+CREATE TABLE refresh_tokens (
+  id           NUMBER(19)      PRIMARY KEY,
+  token_hash   VARCHAR2(64)    NOT NULL UNIQUE,   -- 재발급 토큰 SHA-256 hex (원문은 저장하지 않음)
+  family_id    VARCHAR2(36)    NOT NULL,          -- 같은 로그인에서 이어진 토큰 묶음
+  user_id      VARCHAR2(100)   NOT NULL,
+  expires_at   TIMESTAMP       NOT NULL,
+  created_at   TIMESTAMP       NOT NULL,
+  rotated      NUMBER(1)       DEFAULT 0 NOT NULL -- 1: 새 토큰으로 교체됨 (재사용 시 family 폐기)
+);
+
+CREATE INDEX idx_rft_family ON refresh_tokens (family_id);
+CREATE INDEX idx_rft_expires ON refresh_tokens (expires_at);
+
+CREATE SEQUENCE REFRESH_TOK_SEQ START WITH 1 INCREMENT BY 1 NOCACHE;
+
+SELECT * FROM refresh_tokens;
@@ -0,0 +1,123 @@
+package com.example.health_care.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.config.NutriCircuitBreaker.State;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NutriCircuitBreakerTest {
+
+    // 창 4건, 최소 4건, 실패율/느린 비율 50%, 시험 호출 2건
+    private static NutriCircuitBreaker breaker(long slowCallMs, long openSeconds) {
+        return new NutriCircuitBreaker(new SimpleMeterRegistry(), 4, 4, 50, 50, slowCallMs, openSeconds, 2, 10, 0);
+    }
+
+    private static void fail(NutriCircuitBreaker breaker) {
+        assertThrows(IllegalStateException.class, () -> breaker.execute(() -> {
+            throw new IllegalStateException("upstream down");
+        }));
+    }
+
+    @Test
+    void staysClosedBelowMinimumCallsAndThreshold() {
+        NutriCircuitBreaker breaker = breaker(60_000, 60);
+        fail(breaker);
+        fail(breaker);
+        fail(breaker);
+        assertEquals(State.CLOSED, breaker.state());
+
+        breaker.execute(() -> "ok");
+        // 4건 중 3건 실패 → 75% ≥ 50%
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void successesInWindowKeepCircuitClosed() {
+        NutriCircuitBreaker breaker = breaker(60_000, 60);
+        for (int i = 0; i < 20; i++) {
+            breaker.execute(() -> "ok");
+            if (i % 4 == 0) {
+                fail(breaker);
+            }
+        }
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCallingUpstream() {
+        NutriCircuitBreaker breaker = breaker(60_000, 60);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(NutriUnavailableException.class, () -> breaker.execute(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void slowCallsOpenCircuit() {
+        NutriCircuitBreaker breaker = breaker(0, 60);
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> "slow");
+        }
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrialCalls() {
+        NutriCircuitBreaker breaker = breaker(60_000, 0);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        assertEquals(State.OPEN, breaker.state());
+
+        // 대기 시간 0 → 다음 호출에서 HALF_OPEN
+        breaker.execute(() -> "trial");
+        assertEquals(State.HALF_OPEN, breaker.state());
+        breaker.execute(() -> "trial");
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void failedTrialCallsReopenCircuit() {
+        NutriCircuitBreaker breaker = breaker(60_000, 0);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        fail(breaker);
+        breaker.execute(() -> "trial");
+        // 시험 2건 중 1건 실패 → 50% ≥ 50%
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    void halfOpenLimitsConcurrentTrialCalls() {
+        NutriCircuitBreaker breaker = breaker(60_000, 0);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker);
+        }
+        // 시험 호출 안에서 두 건을 더 시도 → 2건 허용 한도에 걸린 세 번째는 거절
+        assertThrows(NutriUnavailableException.class, () -> breaker.execute(
+                () -> breaker.execute(() -> breaker.execute(() -> "third"))));
+    }
+
+    @Test
+    void bulkheadRejectsBeyondMaxConcurrent() {
+        NutriCircuitBreaker breaker = new NutriCircuitBreaker(new SimpleMeterRegistry(), 20, 10, 50, 50, 60_000, 60,
+                3, 1, 0);
+
+        NutriUnavailableException e = assertThrows(NutriUnavailableException.class,
+                () -> breaker.execute(() -> breaker.execute(() -> "nested")));
+        assertEquals("공공데이터 API 동시 호출 한도 초과", e.getMessage());
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals("ok", breaker.execute(() -> "ok"));
+    }
+}
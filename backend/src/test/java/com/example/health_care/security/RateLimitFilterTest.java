@@ -0,0 +1,72 @@
+package com.example.health_care.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.config.RateLimitProperties.Limit;
+
+class RateLimitFilterTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+
+    private static Limit limit(int capacity, int perMinute) {
+        Limit limit = new Limit();
+        limit.setCapacity(capacity);
+        limit.setPerMinute(perMinute);
+        return limit;
+    }
+
+    @Test
+    void burstUpToCapacityThenWaitForOneToken() {
+        RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(limit(3, 60), T0);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryConsume(T0));
+        }
+        long wait = bucket.tryConsume(T0);
+        // 분당 60개 → 1초에 1개
+        assertTrue(Math.abs(wait - TimeUnit.SECONDS.toNanos(1)) < 1_000, "wait " + wait);
+    }
+
+    @Test
+    void tokenIsAvailableExactlyAfterReportedWait() {
+        // 나누어떨어지지 않는 충전 속도에서도 알려준 시간만큼 기다리면 통과
+        for (int perMinute : new int[] { 1, 7, 13, 60, 997 }) {
+            RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(limit(1, perMinute), T0);
+            long now = T0;
+            assertEquals(0, bucket.tryConsume(now));
+            for (int i = 0; i < 50; i++) {
+                long wait = bucket.tryConsume(now);
+                assertTrue(wait > 0);
+                now += wait;
+                assertEquals(0, bucket.tryConsume(now), "perMinute " + perMinute + " step " + i);
+            }
+        }
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(limit(2, 60), T0);
+        bucket.tryConsume(T0);
+        bucket.tryConsume(T0);
+
+        long later = T0 + TimeUnit.HOURS.toNanos(1);
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later) > 0);
+    }
+
+    @Test
+    void capacityDefaultsToPerMinuteAndIdleTimeTracksLastUse() {
+        RateLimitFilter.TokenBucket bucket = new RateLimitFilter.TokenBucket(limit(0, 5), T0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryConsume(T0 + i));
+        }
+        assertTrue(bucket.tryConsume(T0 + 5) > 0);
+        assertEquals(100, bucket.idleFor(T0 + 105));
+    }
+}
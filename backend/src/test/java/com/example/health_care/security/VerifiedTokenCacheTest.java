@@ -0,0 +1,88 @@
+package com.example.health_care.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+    private static Claims expiringIn(long millis) {
+        return Jwts.claims().subject("alice").expiration(new Date(System.currentTimeMillis() + millis)).build();
+    }
+
+    @Test
+    void returnsClaimsUntilTokenExpires() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10);
+        Claims live = expiringIn(60_000);
+        cache.put("live", live);
+        cache.put("expired", expiringIn(-1));
+
+        assertSame(live, cache.get("live"));
+        assertNull(cache.get("expired"));
+        // 만료 항목은 조회 시 바로 제거
+        assertEquals(1, cache.size());
+        assertNull(cache.get("unknown"));
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10);
+        cache.put("no-exp", Jwts.claims().subject("alice").build());
+
+        assertNull(cache.get("no-exp"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10);
+        cache.put("t", expiringIn(60_000));
+
+        cache.invalidate("t");
+
+        assertNull(cache.get("t"));
+    }
+
+    @Test
+    void sweepRemovesOnlyExpiredEntries() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10);
+        cache.put("live", expiringIn(60_000));
+        cache.put("expired-1", expiringIn(-1));
+        cache.put("expired-2", expiringIn(-1));
+
+        cache.sweepExpired();
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void fullCacheDropsExpiredFirstThenTrimsToNinetyPercent() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10);
+        for (int i = 0; i < 9; i++) {
+            cache.put("live-" + i, expiringIn(60_000));
+        }
+        cache.put("expired", expiringIn(-1));
+
+        // 가득 찬 상태에서 추가 → 만료 항목만 치워도 자리가 남으므로 살아 있는 항목은 유지
+        Claims added = expiringIn(60_000);
+        cache.put("added", added);
+        assertEquals(10, cache.size());
+        assertSame(added, cache.get("added"));
+        for (int i = 0; i < 9; i++) {
+            assertEquals("alice", cache.get("live-" + i).getSubject());
+        }
+
+        // 만료 항목이 없으면 9개까지 비운 뒤 추가
+        cache.put("overflow", expiringIn(60_000));
+        assertEquals(10, cache.size());
+        assertEquals("alice", cache.get("overflow").getSubject());
+    }
+}
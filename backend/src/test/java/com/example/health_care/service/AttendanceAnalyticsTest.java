@@ -0,0 +1,163 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class AttendanceAnalyticsTest {
+
+    // 기존 AttendanceController.status 의 날짜 집합 기반 계산 (비교 기준)
+    private record Baseline(int totalDays, int currentStreak, int monthDays, int monthStreak, int coins,
+            int todayCoins) {
+
+        static Baseline of(TreeSet<LocalDate> loginDays, LocalDate today) {
+            int totalDays = loginDays.size();
+            int currentStreak = 0;
+            LocalDate d = loginDays.contains(today) ? today : today.minusDays(1);
+            while (loginDays.contains(d)) {
+                currentStreak++;
+                d = d.minusDays(1);
+            }
+
+            YearMonth ymNow = YearMonth.from(today);
+            int monthDays = (int) loginDays.stream().filter(x -> YearMonth.from(x).equals(ymNow)).count();
+
+            int monthStreak = 0;
+            if (!loginDays.isEmpty()) {
+                LocalDate end = loginDays.contains(today) ? today : today.minusDays(1);
+                for (LocalDate x = ymNow.atDay(1); !x.isAfter(end) && loginDays.contains(x); x = x.plusDays(1)) {
+                    monthStreak++;
+                }
+            }
+
+            int coins = (totalDays / 2) + ((totalDays / 30) * 30);
+            if (!loginDays.isEmpty()) {
+                for (YearMonth ym = YearMonth.from(loginDays.first()); !ym.isAfter(ymNow); ym = ym.plusMonths(1)) {
+                    if (isMonthPerfect(loginDays, ym)) {
+                        coins += 15;
+                    }
+                }
+            }
+
+            int todayCoins = 0;
+            if (loginDays.contains(today)) {
+                if (totalDays % 2 == 0) todayCoins += 1;
+                if (totalDays % 30 == 0) todayCoins += 30;
+                if (isMonthPerfect(loginDays, ymNow) && today.getDayOfMonth() == ymNow.lengthOfMonth()) {
+                    todayCoins += 15;
+                }
+            }
+            return new Baseline(totalDays, currentStreak, monthDays, monthStreak, coins, todayCoins);
+        }
+
+        private static boolean isMonthPerfect(TreeSet<LocalDate> loginDays, YearMonth ym) {
+            for (LocalDate x = ym.atDay(1); !x.isAfter(ym.atEndOfMonth()); x = x.plusDays(1)) {
+                if (!loginDays.contains(x)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static Baseline fromResult(AttendanceAnalytics.Result r) {
+        return new Baseline(r.totalDays(), r.currentStreak(), r.monthDays(), r.monthStreak(), r.coins(),
+                r.todayCoins());
+    }
+
+    @Test
+    void emptyHistory() {
+        AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(AttendanceBitmap.EMPTY, LocalDate.of(2024, 1, 1));
+
+        assertTrue(r.isEmpty());
+        assertEquals(0, r.coins());
+        assertNull(r.firstDate());
+    }
+
+    @Test
+    void streakAnchorsOnYesterdayUntilTodayIsChecked() {
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        AttendanceBitmap bitmap = AttendanceBitmap.of(List.of(today.minusDays(2), today.minusDays(1)));
+
+        AttendanceAnalytics.Result before = AttendanceAnalytics.analyze(bitmap, today);
+        assertFalse(before.attendedToday());
+        assertEquals(2, before.currentStreak());
+
+        AttendanceAnalytics.Result after = AttendanceAnalytics.analyze(bitmap.with(today), today);
+        assertTrue(after.attendedToday());
+        assertEquals(3, after.currentStreak());
+        assertEquals(3, after.monthDays());
+
+        assertEquals(0, AttendanceAnalytics.analyze(bitmap, today.plusDays(1)).currentStreak());
+    }
+
+    @Test
+    void upToDropsDaysAfterToday() {
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        int[] days = AttendanceBitmap.of(List.of(today.minusDays(1), today, today.plusDays(1), today.plusDays(30)))
+                .toEpochDays();
+
+        assertEquals(2, AttendanceAnalytics.upTo(days, today).length);
+        assertEquals(1, AttendanceAnalytics.upTo(days, today.minusDays(1)).length);
+        assertEquals(0, AttendanceAnalytics.upTo(days, today.minusDays(2)).length);
+        assertSame(days, AttendanceAnalytics.upTo(days, today.plusDays(30)));
+    }
+
+    @Test
+    void completingMonthOnLastDayPaysBonusOnce() {
+        LocalDate today = LocalDate.of(2023, 4, 30);
+        TreeSet<LocalDate> days = new TreeSet<>();
+        for (LocalDate d = LocalDate.of(2023, 4, 1); !d.isAfter(today); d = d.plusDays(1)) {
+            days.add(d);
+        }
+        AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(AttendanceBitmap.of(days), today);
+
+        assertTrue(r.perfectThisMonth());
+        assertEquals(1, r.perfectMonthCount());
+        assertEquals(30, r.longestStreak());
+        assertEquals(15 + 30 + 15, r.coins());
+        assertEquals(1 + 30 + 15, r.todayCoins());
+        assertEquals(List.of(YearMonth.of(2023, 4)), r.perfectMonths(YearMonth.of(2023, 4)));
+    }
+
+    @Test
+    void matchesBaselineStatusOnRandomHistories() {
+        Random random = new Random(3);
+        LocalDate base = LocalDate.of(2022, 10, 1);
+        for (int round = 0; round < 300; round++) {
+            TreeSet<LocalDate> days = new TreeSet<>();
+            LocalDate d = base.plusDays(random.nextInt(60));
+            int n = random.nextInt(500);
+            for (int i = 0; i < n; i++) {
+                days.add(d);
+                d = d.plusDays(random.nextInt(10) < 7 ? 1 : 2 + random.nextInt(5));
+            }
+            AttendanceBitmap bitmap = AttendanceBitmap.of(days);
+
+            for (int q = 0; q < 10; q++) {
+                // 마지막 출석일 부근을 주로 보되, 한참 뒤(연속 끊김)도 확인
+                LocalDate today = days.isEmpty() ? base
+                        : days.last().plusDays(random.nextInt(10) < 8 ? random.nextInt(3) - 1 : random.nextInt(90));
+                TreeSet<LocalDate> upToToday = new TreeSet<>(days.headSet(today, true));
+                AttendanceAnalytics.Result r = AttendanceAnalytics.analyze(AttendanceBitmap.of(upToToday), today);
+
+                assertEquals(Baseline.of(upToToday, today), fromResult(r), "today " + today);
+                if (!upToToday.isEmpty()) {
+                    assertEquals(upToToday.first(), r.firstDate());
+                    assertEquals(upToToday.last(), r.lastDate());
+                }
+            }
+            assertEquals(days.size(), AttendanceAnalytics.analyze(bitmap, base).totalDays());
+        }
+    }
+}
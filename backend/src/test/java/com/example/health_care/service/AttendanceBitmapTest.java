@@ -0,0 +1,135 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+class AttendanceBitmapTest {
+
+    private static List<LocalDate> range(LocalDate from, LocalDate to) {
+        List<LocalDate> out = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            out.add(d);
+        }
+        return out;
+    }
+
+    @Test
+    void emptyBitmap() {
+        AttendanceBitmap empty = AttendanceBitmap.EMPTY;
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.count());
+        assertNull(empty.first());
+        assertNull(empty.last());
+        assertEquals(0, empty.streakEndingAt(LocalDate.of(2024, 5, 1)));
+        assertEquals(0, empty.toEpochDays().length);
+    }
+
+    @Test
+    void streakCrossesYearBoundaries() {
+        // 2022-12-20 ~ 2024-01-05 연속 (2023 년 전체 포함)
+        AttendanceBitmap bitmap = AttendanceBitmap.of(range(LocalDate.of(2022, 12, 20), LocalDate.of(2024, 1, 5)));
+
+        assertEquals(12 + 365 + 5, bitmap.streakEndingAt(LocalDate.of(2024, 1, 5)));
+        assertEquals(12 + 365, bitmap.streakEndingAt(LocalDate.of(2023, 12, 31)));
+        assertEquals(0, bitmap.streakEndingAt(LocalDate.of(2024, 1, 6)));
+        assertEquals(12 + 365 + 5, bitmap.runStartingAt(LocalDate.of(2022, 12, 20), LocalDate.of(2030, 1, 1)));
+        assertEquals(10, bitmap.runStartingAt(LocalDate.of(2022, 12, 25), LocalDate.of(2023, 1, 3)));
+    }
+
+    @Test
+    void leapYearUsesAllBitsUpToDay366() {
+        LocalDate leapLast = LocalDate.of(2024, 12, 31);
+        AttendanceBitmap bitmap = AttendanceBitmap.of(List.of(LocalDate.of(2024, 2, 29), leapLast, LocalDate.of(2025, 1, 1)));
+
+        assertTrue(bitmap.contains(LocalDate.of(2024, 2, 29)));
+        assertFalse(bitmap.contains(LocalDate.of(2024, 3, 1)));
+        assertEquals(leapLast, bitmap.datesBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)).get(0));
+        assertEquals(2, bitmap.streakEndingAt(LocalDate.of(2025, 1, 1)));
+        assertEquals(1, bitmap.count(YearMonth.of(2024, 2)));
+
+        AttendanceBitmap february = AttendanceBitmap.of(range(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 28)));
+        assertFalse(february.isFull(YearMonth.of(2024, 2)));
+        assertTrue(february.with(LocalDate.of(2024, 2, 29)).isFull(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void rangeCountsMaskWordEdges() {
+        // 비트 63/64, 127/128 경계 (3월 4~5일, 5월 7~8일 부근)
+        AttendanceBitmap bitmap = AttendanceBitmap.of(range(LocalDate.ofYearDay(2023, 60), LocalDate.ofYearDay(2023, 130)));
+
+        assertEquals(1, bitmap.count(LocalDate.ofYearDay(2023, 64), LocalDate.ofYearDay(2023, 64)));
+        assertEquals(2, bitmap.count(LocalDate.ofYearDay(2023, 64), LocalDate.ofYearDay(2023, 65)));
+        assertEquals(66, bitmap.count(LocalDate.ofYearDay(2023, 64), LocalDate.ofYearDay(2023, 129)));
+        assertEquals(71, bitmap.count(LocalDate.of(2022, 1, 1), LocalDate.of(2024, 12, 31)));
+        assertEquals(0, bitmap.count(LocalDate.ofYearDay(2023, 131), LocalDate.ofYearDay(2023, 365)));
+    }
+
+    @Test
+    void withReturnsSameInstanceForExistingDateAndLeavesOriginalUntouched() {
+        LocalDate d = LocalDate.of(2023, 6, 1);
+        AttendanceBitmap one = AttendanceBitmap.of(List.of(d));
+
+        assertSame(one, one.with(d));
+        AttendanceBitmap two = one.with(LocalDate.of(2021, 1, 1));
+        assertEquals(1, one.count());
+        assertEquals(2, two.count());
+        assertEquals(LocalDate.of(2021, 1, 1), two.first());
+        assertEquals(d, two.last());
+    }
+
+    @Test
+    void matchesSortedSetOnRandomDates() {
+        Random random = new Random(7);
+        LocalDate base = LocalDate.of(2019, 11, 1);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<LocalDate> set = new TreeSet<>();
+            AttendanceBitmap bitmap = AttendanceBitmap.EMPTY;
+            int n = random.nextInt(400);
+            for (int i = 0; i < n; i++) {
+                // 뭉쳐서 연속 구간이 생기도록 일부는 인접한 날
+                LocalDate d = set.isEmpty() || random.nextBoolean()
+                        ? base.plusDays(random.nextInt(1600))
+                        : set.last().plusDays(1);
+                set.add(d);
+                bitmap = bitmap.with(d);
+            }
+
+            assertEquals(set.size(), bitmap.count());
+            assertEquals(set.isEmpty() ? null : set.first(), bitmap.first());
+            assertEquals(set.isEmpty() ? null : set.last(), bitmap.last());
+            assertArrayEquals(set.stream().mapToInt(d -> (int) d.toEpochDay()).toArray(), bitmap.toEpochDays());
+
+            for (int q = 0; q < 30; q++) {
+                LocalDate a = base.plusDays(random.nextInt(1600));
+                LocalDate b = a.plusDays(random.nextInt(500));
+                assertEquals(set.subSet(a, true, b, true).size(), bitmap.count(a, b));
+                assertEquals(new ArrayList<>(set.subSet(a, true, b, true)), bitmap.datesBetween(a, b));
+
+                int streak = 0;
+                for (LocalDate d = a; set.contains(d); d = d.minusDays(1)) {
+                    streak++;
+                }
+                assertEquals(streak, bitmap.streakEndingAt(a));
+
+                int run = 0;
+                for (LocalDate d = a; !d.isAfter(b) && set.contains(d); d = d.plusDays(1)) {
+                    run++;
+                }
+                assertEquals(run, bitmap.runStartingAt(a, b));
+            }
+        }
+    }
+}
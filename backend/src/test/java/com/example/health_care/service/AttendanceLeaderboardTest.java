@@ -0,0 +1,189 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.service.AttendanceLeaderboard.Metric;
+import com.example.health_care.service.AttendanceLeaderboard.Row;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AttendanceLeaderboardTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    // 테스트에서 날짜를 넘길 수 있는 시계
+    private static final class MutableClock extends Clock {
+        private LocalDate today;
+
+        MutableClock(LocalDate today) {
+            this.today = today;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return KST;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return today.atTime(12, 0).atZone(KST).toInstant();
+        }
+    }
+
+    private final Map<Long, AttendanceBitmap> bitmaps = new HashMap<>();
+    private MutableClock clock;
+    private AttendanceLeaderboard board;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDate.of(2024, 6, 15));
+        // 미래 날짜 고객을 다시 계산할 때만 DB 대신 이 맵을 읽음
+        AttendanceStore store = new AttendanceStore(null, new SimpleMeterRegistry(), 100, 60_000) {
+            @Override
+            public AttendanceBitmap get(Long customerIdx) {
+                return bitmaps.getOrDefault(customerIdx, AttendanceBitmap.EMPTY);
+            }
+        };
+        board = new AttendanceLeaderboard(null, store, new SimpleMeterRegistry(), clock);
+    }
+
+    // today 에서 끝나는 length 일 연속 출석 (endOffset 만큼 앞당길 수 있음)
+    private void attend(long idx, int length, int endOffset) {
+        LocalDate end = clock.today.minusDays(endOffset);
+        AttendanceBitmap bitmap = bitmaps.getOrDefault(idx, AttendanceBitmap.EMPTY);
+        for (int i = 0; i < length; i++) {
+            bitmap = bitmap.with(end.minusDays(i));
+        }
+        bitmaps.put(idx, bitmap);
+        board.update(idx, bitmap);
+    }
+
+    private static List<Long> ids(List<Row> rows) {
+        return rows.stream().map(Row::customerIdx).toList();
+    }
+
+    private static List<Integer> ranks(List<Row> rows) {
+        return rows.stream().map(Row::rank).toList();
+    }
+
+    @Test
+    void tiesShareRankAndNextRankSkips() {
+        attend(1, 5, 0);
+        attend(2, 3, 0);
+        attend(3, 3, 1);
+        attend(4, 1, 0);
+
+        List<Row> top = board.top(Metric.STREAK, 10);
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(top));
+        assertEquals(List.of(1, 2, 2, 4), ranks(top));
+        assertEquals(new Row(2, 3L, 3), board.rankOf(Metric.STREAK, 3L));
+        assertEquals(List.of(1L, 2L), ids(board.top(Metric.STREAK, 2)));
+        assertNull(board.rankOf(Metric.STREAK, 99L));
+        assertEquals(4, board.size());
+    }
+
+    @Test
+    void aroundReturnsNeighboursInRankOrder() {
+        for (long idx = 1; idx <= 7; idx++) {
+            attend(idx, (int) idx, 0);
+        }
+
+        List<Row> around = board.around(Metric.STREAK, 4L, 2);
+        assertEquals(List.of(6L, 5L, 4L, 3L, 2L), ids(around));
+        assertEquals(List.of(2, 3, 4, 5, 6), ranks(around));
+        assertEquals(List.of(7L, 6L), ids(board.around(Metric.STREAK, 7L, 1).subList(0, 2)));
+        assertTrue(board.around(Metric.STREAK, 99L, 2).isEmpty());
+    }
+
+    @Test
+    void streakExpiresAfterAMissedDayButCoinsStay() {
+        attend(1, 10, 0);
+        attend(2, 4, 0);
+        int coins = board.rankOf(Metric.COINS, 1L).score();
+
+        clock.today = clock.today.plusDays(1);
+        assertEquals(10, board.rankOf(Metric.STREAK, 1L).score());
+
+        clock.today = clock.today.plusDays(1);
+        attend(2, 1, 0);
+        assertEquals(0, board.rankOf(Metric.STREAK, 1L).score());
+        assertEquals(1, board.rankOf(Metric.STREAK, 2L).score());
+        assertEquals(new Row(1, 2L, 1), board.top(Metric.STREAK, 1).get(0));
+        assertEquals(coins, board.rankOf(Metric.COINS, 1L).score());
+    }
+
+    @Test
+    void futureCheckinCountsOnlyOnceItsDayArrives() {
+        attend(1, 3, 0);
+        LocalDate tomorrow = clock.today.plusDays(1);
+        AttendanceBitmap withFuture = bitmaps.get(1L).with(tomorrow);
+        bitmaps.put(1L, withFuture);
+        board.update(1L, withFuture);
+        assertEquals(3, board.rankOf(Metric.STREAK, 1L).score());
+
+        clock.today = tomorrow;
+        assertEquals(4, board.rankOf(Metric.STREAK, 1L).score());
+    }
+
+    @Test
+    void emptyHistoryRemovesCustomer() {
+        attend(1, 2, 0);
+        board.update(1L, AttendanceBitmap.EMPTY);
+
+        assertNull(board.rankOf(Metric.COINS, 1L));
+        assertEquals(0, board.size());
+    }
+
+    @Test
+    void boardMatchesBruteForceRanking() {
+        AttendanceLeaderboard.Board b = new AttendanceLeaderboard.Board();
+        Map<Long, Integer> scores = new HashMap<>();
+        Random random = new Random(5);
+        for (int step = 0; step < 5_000; step++) {
+            long idx = random.nextInt(200);
+            if (random.nextInt(10) == 0) {
+                b.remove(idx);
+                scores.remove(idx);
+            } else {
+                // 가끔 큰 점수로 Fenwick 트리 확장도 확인
+                int score = random.nextInt(50) == 0 ? random.nextInt(5_000) : random.nextInt(40);
+                b.put(idx, score);
+                scores.put(idx, score);
+            }
+        }
+
+        List<Map.Entry<Long, Integer>> sorted = new ArrayList<>(scores.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Long, Integer>>comparingInt(e -> -e.getValue())
+                .thenComparingLong(Map.Entry::getKey));
+        List<Row> top = b.top(sorted.size() + 5);
+        assertEquals(sorted.size(), top.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Map.Entry<Long, Integer> e = sorted.get(i);
+            int higher = (int) scores.values().stream().filter(s -> s > e.getValue()).count();
+            Row expected = new Row(higher + 1, e.getKey(), e.getValue());
+            assertEquals(expected, top.get(i));
+            assertEquals(expected, b.row(e.getKey()));
+        }
+    }
+}
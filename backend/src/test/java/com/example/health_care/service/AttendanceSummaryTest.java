@@ -0,0 +1,74 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class AttendanceSummaryTest {
+
+    @Test
+    void emptyHistoryHasNoSummary() {
+        assertNull(AttendanceSummary.of(AttendanceBitmap.EMPTY));
+    }
+
+    @Test
+    void fullMonthBecomesPerfectOnItsLastDay() {
+        AttendanceBitmap bitmap = AttendanceBitmap.of(List.of(LocalDate.of(2024, 2, 1)));
+        AttendanceSummary summary = AttendanceSummary.of(bitmap);
+        for (int day = 2; day <= 29; day++) {
+            summary = summary.plus(LocalDate.of(2024, 2, day));
+        }
+
+        assertEquals(29, summary.streak());
+        assertEquals(29, summary.monthStreak());
+        assertEquals(List.of(YearMonth.of(2024, 2)), List.copyOf(summary.perfectMonths()));
+        assertEquals("2024-02", summary.perfectMonthsText());
+
+        AttendanceSummary march = summary.plus(LocalDate.of(2024, 3, 2));
+        assertEquals(1, march.streak());
+        assertEquals(0, march.monthStreak());
+        assertEquals(1, march.monthDays());
+    }
+
+    @Test
+    void plusRejectsDaysNotAfterLastDate() {
+        AttendanceSummary summary = AttendanceSummary.of(AttendanceBitmap.of(List.of(LocalDate.of(2024, 5, 10))));
+
+        assertThrows(IllegalArgumentException.class, () -> summary.plus(LocalDate.of(2024, 5, 10)));
+        assertThrows(IllegalArgumentException.class, () -> summary.plus(LocalDate.of(2024, 5, 9)));
+    }
+
+    @Test
+    void perfectMonthsTextRoundTrips() {
+        assertTrue(AttendanceSummary.parsePerfectMonths(null).isEmpty());
+        assertTrue(AttendanceSummary.parsePerfectMonths(" ").isEmpty());
+        assertEquals(List.of(YearMonth.of(2023, 12), YearMonth.of(2024, 1)),
+                List.copyOf(AttendanceSummary.parsePerfectMonths("2024-01, 2023-12,")));
+    }
+
+    @Test
+    void incrementalPlusMatchesFullRecompute() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            LocalDate day = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(400));
+            AttendanceBitmap bitmap = AttendanceBitmap.of(List.of(day));
+            AttendanceSummary incremental = AttendanceSummary.of(bitmap);
+            int steps = 1 + random.nextInt(120);
+            for (int i = 0; i < steps; i++) {
+                // 대부분은 다음 날, 가끔 며칠 건너뜀 (달/연도 경계 포함)
+                day = day.plusDays(random.nextInt(10) < 8 ? 1 : 2 + random.nextInt(40));
+                bitmap = bitmap.with(day);
+                incremental = incremental.plus(day);
+                assertEquals(AttendanceSummary.of(bitmap), incremental, "after " + day);
+            }
+        }
+    }
+}
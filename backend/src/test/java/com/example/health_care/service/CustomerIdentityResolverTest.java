@@ -0,0 +1,129 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CustomerIdentityResolverTest {
+
+    private final FakeCustomers customers = new FakeCustomers();
+
+    private CustomerIdentityResolver resolver(int maxSize) {
+        return new CustomerIdentityResolver(customers, new SimpleMeterRegistry(), maxSize);
+    }
+
+    @Test
+    void lookupIsCachedInBothDirections() {
+        customers.rows.put("a@x.com", 1L);
+        CustomerIdentityResolver resolver = resolver(10);
+
+        assertEquals(1L, resolver.idxOf("a@x.com"));
+        assertEquals(1L, resolver.idxOf("a@x.com"));
+        assertEquals("a@x.com", resolver.idOf(1L));
+        assertEquals(1, customers.queries);
+    }
+
+    @Test
+    void unknownIdIsNotCached() {
+        CustomerIdentityResolver resolver = resolver(10);
+
+        assertNull(resolver.idxOf("new@x.com"));
+        assertNull(resolver.idOf(7L));
+
+        // 가입 직후 바로 보여야 함
+        customers.rows.put("new@x.com", 7L);
+        assertEquals(7L, resolver.idxOf("new@x.com"));
+        assertEquals(3, customers.queries);
+    }
+
+    @Test
+    void blankOrNullInputSkipsQuery() {
+        CustomerIdentityResolver resolver = resolver(10);
+
+        assertNull(resolver.idxOf(null));
+        assertNull(resolver.idxOf(" "));
+        assertNull(resolver.idOf(null));
+        assertEquals(0, customers.queries);
+    }
+
+    @Test
+    void rememberedMappingNeedsNoQuery() {
+        CustomerIdentityResolver resolver = resolver(10);
+
+        resolver.remember("a@x.com", 1L);
+
+        assertEquals(1L, resolver.idxOf("a@x.com"));
+        assertEquals("a@x.com", resolver.idOf(1L));
+        assertEquals(0, customers.queries);
+    }
+
+    @Test
+    void evictForcesReloadInBothDirections() {
+        customers.rows.put("a@x.com", 1L);
+        CustomerIdentityResolver resolver = resolver(10);
+        resolver.idxOf("a@x.com");
+
+        resolver.evict("a@x.com");
+        customers.rows.remove("a@x.com");
+        customers.rows.put("b@x.com", 1L);
+
+        assertNull(resolver.idxOf("a@x.com"));
+        assertEquals("b@x.com", resolver.idOf(1L));
+        assertEquals(3, customers.queries);
+    }
+
+    @Test
+    void overflowKeepsSizeBoundedAndNewestEntry() {
+        CustomerIdentityResolver resolver = resolver(10);
+        for (long i = 0; i <= 10; i++) {
+            resolver.remember("u" + i + "@x.com", i);
+        }
+
+        // 가득 차면 9개로 줄인 뒤 새 항목 추가
+        assertEquals(10, resolver.size());
+        assertEquals(10L, resolver.idxOf("u10@x.com"));
+        assertEquals(0, customers.queries);
+    }
+
+    @Test
+    void overflowTrimsReverseMappingToo() {
+        customers.rows.put("a@x.com", 1L);
+        CustomerIdentityResolver resolver = resolver(1);
+        resolver.remember("a@x.com", 1L);
+        resolver.remember("b@x.com", 2L);
+
+        assertEquals("a@x.com", resolver.idOf(1L));
+        assertEquals(1, customers.queries);
+    }
+
+    // customers 테이블의 id ↔ idx 만 흉내 내는 JdbcTemplate
+    private static final class FakeCustomers extends JdbcTemplate {
+
+        private final Map<String, Long> rows = new HashMap<>();
+        private int queries;
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            queries++;
+            Object value = sql.contains("WHERE id = ?")
+                    ? rows.get((String) args[0])
+                    : rows.entrySet().stream()
+                            .filter(e -> e.getValue().equals(args[0]))
+                            .map(Map.Entry::getKey)
+                            .findFirst()
+                            .orElse(null);
+            if (value == null) {
+                throw new EmptyResultDataAccessException(1);
+            }
+            return requiredType.cast(value);
+        }
+    }
+}
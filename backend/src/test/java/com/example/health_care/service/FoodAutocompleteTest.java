@@ -0,0 +1,105 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.dto.FoodDTO;
+
+class FoodAutocompleteTest {
+
+    private static List<String> namesOf(List<FoodDTO> foods) {
+        return foods.stream().map(FoodDTO::getFoodNm).toList();
+    }
+
+    private static FoodAutocomplete withNames(int maxResults, String... names) {
+        FoodAutocomplete autocomplete = new FoodAutocomplete(null, maxResults, 1000);
+        for (String name : names) {
+            autocomplete.add(name, 100.0);
+        }
+        autocomplete.rebuildIfDirty();
+        return autocomplete;
+    }
+
+    @Test
+    void partiallyTypedSyllableMatchesPrefix() {
+        FoodAutocomplete autocomplete = withNames(10, "김밥", "김치", "김치찌개", "닭갈비");
+
+        assertEquals(List.of("김밥"), namesOf(autocomplete.complete("김ㅂ", 10)));
+        assertEquals(List.of("김밥"), namesOf(autocomplete.complete("김바", 10)));
+        assertEquals(List.of("김치", "김치찌개"), namesOf(autocomplete.complete("김치", 10)));
+        assertEquals(List.of("닭갈비"), namesOf(autocomplete.complete("닭", 10)));
+        assertTrue(autocomplete.complete("라", 10).isEmpty());
+    }
+
+    @Test
+    void compoundVowelsAndFinalConsonantsSplitInTypingOrder() {
+        FoodAutocomplete autocomplete = withNames(10, "된장국", "닭죽");
+
+        // 되 → ㄷㅗㅣ, 닭 → ㄷㅏㄹㄱ : 입력 중간 상태(도, 달)도 접두어
+        assertEquals(List.of("된장국"), namesOf(autocomplete.complete("도", 10)));
+        assertEquals(List.of("닭죽"), namesOf(autocomplete.complete("달", 10)));
+    }
+
+    @Test
+    void shorterNamesComeFirstAndLimitApplies() {
+        FoodAutocomplete autocomplete = withNames(2, "Apple Pie", "apple", "Apple Juice");
+
+        assertEquals(List.of("apple", "Apple Pie"), namesOf(autocomplete.complete("AP", 10)));
+        assertEquals(List.of("apple"), namesOf(autocomplete.complete("app", 1)));
+        assertTrue(autocomplete.complete(" ", 10).isEmpty());
+    }
+
+    @Test
+    void newNamesAppearOnlyAfterRebuild() {
+        FoodAutocomplete autocomplete = withNames(10, "라면");
+        autocomplete.add("라볶이", null);
+
+        assertEquals(List.of("라면"), namesOf(autocomplete.complete("라", 10)));
+        autocomplete.rebuildIfDirty();
+        assertEquals(List.of("라면", "라볶이"), namesOf(autocomplete.complete("라", 10)));
+        assertNull(autocomplete.complete("라볶", 1).get(0).getEnerc());
+    }
+
+    @Test
+    void matchesBruteForcePrefixScan() {
+        Random random = new Random(9);
+        String alphabet = "김밥치국라면떡볶이abc";
+        Map<String, Double> names = new HashMap<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int len = 1 + random.nextInt(6);
+            for (int k = 0; k < len; k++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            names.put(sb.toString(), (double) i);
+        }
+        int maxResults = 7;
+        FoodAutocomplete.Trie trie = FoodAutocomplete.Trie.build(names, maxResults);
+
+        List<String> sorted = new ArrayList<>(names.keySet());
+        sorted.sort(Comparator.comparingInt(String::length).thenComparing(FoodAutocomplete::normalize));
+        for (int q = 0; q < 300; q++) {
+            String query = sorted.get(random.nextInt(sorted.size()));
+            String prefix = FoodAutocomplete.normalize(query.substring(0, 1 + random.nextInt(query.length())));
+            prefix = prefix.substring(0, 1 + random.nextInt(prefix.length()));
+
+            List<String> expected = new ArrayList<>();
+            for (String name : sorted) {
+                if (expected.size() < maxResults && FoodAutocomplete.normalize(name).startsWith(prefix)) {
+                    expected.add(name);
+                }
+            }
+            assertEquals(expected, namesOf(trie.complete(prefix, maxResults)), "prefix " + prefix);
+        }
+    }
+}
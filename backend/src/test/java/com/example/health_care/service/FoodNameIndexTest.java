@@ -0,0 +1,127 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.dto.FoodDTO;
+
+class FoodNameIndexTest {
+
+    private static List<String> namesOf(List<FoodDTO> foods) {
+        return foods.stream().map(FoodDTO::getFoodNm).toList();
+    }
+
+    @Test
+    void substringMatchComesFirstAndShorterNameWinsTies() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("김치볶음밥", 520.0);
+        index.add("김치찌개", 300.0);
+        index.add("돼지고기 김치찌개", 420.0);
+        index.add("된장찌개", 250.0);
+
+        List<String> hits = namesOf(index.search("김치찌개", 10));
+
+        assertEquals("김치찌개", hits.get(0));
+        assertEquals("돼지고기 김치찌개", hits.get(1));
+        assertTrue(!hits.contains("된장찌개") || hits.indexOf("된장찌개") > 1);
+    }
+
+    @Test
+    void queryIgnoresCaseAndWhitespace() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("Chicken Salad", 180.0);
+
+        assertEquals(List.of("Chicken Salad"), namesOf(index.search("chickensal", 5)));
+    }
+
+    @Test
+    void singleCharacterQueryFindsLongerNames() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("떡볶이", 300.0);
+        index.add("떡국", 400.0);
+        index.add("라면", 500.0);
+
+        List<String> hits = namesOf(index.search("떡", 10));
+
+        assertEquals(List.of("떡국", "떡볶이"), hits);
+    }
+
+    @Test
+    void containingSearchDropsFuzzyMatches() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("김치찌개", 300.0);
+        index.add("김치찌게 정식", 500.0);
+
+        assertEquals(List.of("김치찌개", "김치찌게 정식"), namesOf(index.search("김치찌개", 10)));
+        assertEquals(List.of("김치찌개"), namesOf(index.searchContaining("김치찌개", 10)));
+        assertTrue(index.searchContaining("된장", 10).isEmpty());
+        // 기동 시 적재가 끝나기 전에는 준비되지 않은 상태
+        assertFalse(index.isReady());
+    }
+
+    @Test
+    void noOverlapReturnsEmpty() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("비빔밥", 600.0);
+
+        assertTrue(index.search("파스타", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search("비빔", 0).isEmpty());
+    }
+
+    @Test
+    void reAddingNameOnlyUpdatesCalories() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        index.add("김밥", 300.0);
+        index.add("김밥", null);
+
+        assertEquals(1, index.size());
+        assertNull(index.search("김밥", 1).get(0).getEnerc());
+    }
+
+    @Test
+    void limitKeepsBestScoringNames() {
+        FoodNameIndex index = new FoodNameIndex(null, false, 0.5);
+        for (int i = 0; i < 50; i++) {
+            index.add("닭가슴살 샐러드 " + i, 100.0 + i);
+        }
+        index.add("닭가슴살", 110.0);
+
+        List<String> hits = namesOf(index.search("닭가슴살", 3));
+
+        assertEquals(3, hits.size());
+        assertEquals("닭가슴살", hits.get(0));
+    }
+
+    @Test
+    void overlapCounterMatchesHashMapUnderGrowth() {
+        FoodNameIndex.OverlapCounter counter = new FoodNameIndex.OverlapCounter(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(3_000);
+            counter.increment(id);
+            expected.merge(id, 1, Integer::sum);
+        }
+
+        int seen = 0;
+        for (int slot = 0; slot < counter.capacity(); slot++) {
+            int id = counter.idAt(slot);
+            if (id >= 0) {
+                assertEquals(expected.get(id).intValue(), counter.countAt(slot));
+                seen++;
+            }
+        }
+        assertEquals(expected.size(), seen);
+        assertEquals(0, counter.get(5_000));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.dto.FoodDTO;
+
+class FoodRankerTest {
+
+    private static final String[] PARTS = { "김치", "찌개", "된장", "볶음밥", "돼지고기", "참치", " ", "국", "비빔" };
+
+    private static FoodDTO food(String name, Double kcal) {
+        return FoodDTO.builder().foodNm(name).enerc(kcal).build();
+    }
+
+    private static List<String> namesOf(List<FoodDTO> foods) {
+        return foods.stream().map(FoodDTO::getFoodNm).toList();
+    }
+
+    // 순위 계산기 도입 전 FoodService 의 정렬 (일치 단어 수 > 열량 유무 > 짧은 이름, 안정 정렬)
+    private static List<FoodDTO> legacySort(List<FoodDTO> candidates, String query, int limit) {
+        String[] words = query.toLowerCase().split("\\s+");
+        Comparator<FoodDTO> order = (a, b) -> {
+            String aName = a.getFoodNm().toLowerCase();
+            String bName = b.getFoodNm().toLowerCase();
+            long aMatches = Arrays.stream(words).filter(aName::contains).count();
+            long bMatches = Arrays.stream(words).filter(bName::contains).count();
+            if (aMatches != bMatches) {
+                return Long.compare(bMatches, aMatches);
+            }
+            int aData = a.getEnerc() != null ? 1 : 0;
+            int bData = b.getEnerc() != null ? 1 : 0;
+            if (aData != bData) {
+                return Integer.compare(bData, aData);
+            }
+            return Integer.compare(aName.length(), bName.length());
+        };
+        return candidates.stream().sorted(order).limit(limit).toList();
+    }
+
+    @Test
+    void defaultsMatchLegacySortOnRandomCandidates() {
+        Random random = new Random(42);
+        FoodRanker ranker = FoodRanker.defaults(0);
+        String[] queries = { "김치", "김치 찌개", "된장 찌개 국", "참치", "없는말" };
+
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(60);
+            List<FoodDTO> candidates = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                StringBuilder name = new StringBuilder();
+                int parts = 1 + random.nextInt(4);
+                for (int p = 0; p < parts; p++) {
+                    name.append(PARTS[random.nextInt(PARTS.length)]);
+                }
+                name.append(i);
+                candidates.add(food(name.toString(), random.nextBoolean() ? 100.0 + i : null));
+            }
+            String query = queries[random.nextInt(queries.length)];
+            int k = 1 + random.nextInt(30);
+
+            assertEquals(namesOf(legacySort(candidates, query, k)), namesOf(ranker.topK(candidates, query, k)),
+                    "round " + round + " query '" + query + "' k " + k);
+        }
+    }
+
+    @Test
+    void tiesKeepInputOrder() {
+        List<FoodDTO> candidates = List.of(food("김치찌개A", 1.0), food("김치찌개B", 1.0), food("김치찌개C", 1.0));
+
+        assertEquals(List.of("김치찌개A", "김치찌개B"), namesOf(FoodRanker.defaults(0).topK(candidates, "김치", 2)));
+    }
+
+    @Test
+    void editDistanceOnlyBreaksTies() {
+        // 김치볶음/김치국밥: 둘 다 "김치"만 일치, 열량 있음, 네 글자 → 기본 기준으로는 동점
+        List<FoodDTO> candidates = List.of(food("김치볶음", 1.0), food("김치국밥", 1.0), food("김치", 1.0));
+
+        assertEquals(List.of("김치", "김치볶음", "김치국밥"), namesOf(FoodRanker.defaults(0).topK(candidates, "김치 국수", 3)));
+        assertEquals(List.of("김치", "김치국밥", "김치볶음"), namesOf(FoodRanker.defaults(0.5).topK(candidates, "김치 국수", 3)));
+    }
+
+    @Test
+    void emptyInputOrNonPositiveKReturnsEmpty() {
+        FoodRanker ranker = FoodRanker.defaults(0);
+
+        assertTrue(ranker.topK(List.of(), "김치", 10).isEmpty());
+        assertTrue(ranker.topK(List.of(food("김치", 1.0)), "김치", 0).isEmpty());
+        assertEquals(1, ranker.topK(List.of(food("김치", 1.0)), "김치", 10).size());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.dto.FoodDTO;
+
+class FoodResponseParserTest {
+
+    private final FoodResponseParser parser = new FoodResponseParser();
+
+    private FoodResponseParser.FoodPage parse(String json) throws IOException {
+        return parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<String> namesOf(List<FoodDTO> foods) {
+        return foods.stream().map(FoodDTO::getFoodNm).toList();
+    }
+
+    @Test
+    void readsHeaderAndItemsFromNestedResponse() throws IOException {
+        FoodResponseParser.FoodPage page = parse("""
+                {"response":{
+                  "header":{"resultCode":"00","resultMsg":"NORMAL SERVICE."},
+                  "body":{"totalCount":"2","items":{"item":[
+                    {"foodNm":"김치찌개","enerc":45.5},
+                    {"foodNm":"된장찌개","enerc":"1,234.5 kcal"}
+                  ]}}}}
+                """);
+
+        assertTrue(page.isSuccess());
+        assertEquals("NORMAL SERVICE.", page.resultMsg());
+        assertEquals(2, page.totalCount());
+        assertEquals(List.of("김치찌개", "된장찌개"), namesOf(page.items()));
+        assertEquals(45.5, page.items().get(0).getEnerc(), 1e-9);
+        assertEquals(1234.5, page.items().get(1).getEnerc(), 1e-9);
+    }
+
+    @Test
+    void readsItemsFromTopLevelArraysUnderAnyKey() throws IOException {
+        FoodResponseParser.FoodPage page = parse("""
+                {"resultCode":"00","totalCount":1,"records":[{"식품명":"비빔밥","에너지(kcal)":"560"}]}
+                """);
+
+        assertEquals(List.of("비빔밥"), namesOf(page.items()));
+        assertEquals(560.0, page.items().get(0).getEnerc(), 1e-9);
+    }
+
+    @Test
+    void earlierKeyInPriorityListWinsRegardlessOfFieldOrder() throws IOException {
+        FoodResponseParser.FoodPage page = parse("""
+                {"resultCode":"00","data":[
+                  {"desc_kor":"별칭","kcal":1,"foodNm":"김밥","enerc":300}
+                ]}
+                """);
+
+        assertEquals(List.of("김밥"), namesOf(page.items()));
+        assertEquals(300.0, page.items().get(0).getEnerc(), 1e-9);
+    }
+
+    @Test
+    void skipsIncompleteObjectsAndKeepsFirstDuplicate() throws IOException {
+        FoodResponseParser.FoodPage page = parse("""
+                {"resultCode":"00","data":[
+                  {"foodNm":"라면"},
+                  {"foodNm":"  ","enerc":100},
+                  {"foodNm":"우동","enerc":null},
+                  {"foodNm":"떡볶이","enerc":"없음"},
+                  {"foodNm":"김밥","enerc":300},
+                  {"foodNm":"김밥","enerc":999}
+                ]}
+                """);
+
+        assertEquals(List.of("김밥"), namesOf(page.items()));
+        assertEquals(300.0, page.items().get(0).getEnerc(), 1e-9);
+    }
+
+    @Test
+    void failureCodeReturnsNoItems() throws IOException {
+        FoodResponseParser.FoodPage page = parse("""
+                {"resultCode":"03","resultMsg":"NODATA_ERROR","data":[{"foodNm":"김밥","enerc":300}]}
+                """);
+
+        assertFalse(page.isSuccess());
+        assertTrue(page.isNoData());
+        assertTrue(page.items().isEmpty());
+    }
+
+    @Test
+    void rejectsNonObjectBody() {
+        assertThrows(IllegalStateException.class, () -> parse("[{\"foodNm\":\"김밥\",\"enerc\":300}]"));
+    }
+}
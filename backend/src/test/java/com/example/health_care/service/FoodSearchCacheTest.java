@@ -0,0 +1,128 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.dto.FoodDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FoodSearchCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private FoodSearchCache cache(int maxSize, long ttlSeconds, long staleTtlSeconds) {
+        return new FoodSearchCache(new SimpleMeterRegistry(), maxSize, ttlSeconds, staleTtlSeconds, now::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static List<FoodDTO> foods(String... names) {
+        return Arrays.stream(names).map(n -> FoodDTO.builder().foodNm(n).enerc(100.0).build()).toList();
+    }
+
+    private static Supplier<List<FoodDTO>> counting(AtomicInteger calls, List<FoodDTO> result) {
+        return () -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    private static Supplier<List<FoodDTO>> failing() {
+        return () -> {
+            throw new IllegalStateException("upstream down");
+        };
+    }
+
+    @Test
+    void hitWithinTtlAndReloadAfterIt() {
+        FoodSearchCache cache = cache(10, 60, 600);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("김치", 1, 10, counting(calls, foods("김치찌개")));
+        advanceSeconds(59);
+        cache.get("김치", 1, 10, counting(calls, foods("김치찌개")));
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.hitCount());
+
+        advanceSeconds(1);
+        cache.get("김치", 1, 10, counting(calls, foods("김치찌개")));
+        assertEquals(2, calls.get());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void keyIgnoresCaseAndExtraSpacesButNotPaging() {
+        FoodSearchCache cache = cache(10, 60, 600);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("Kimchi  Stew", 1, 10, counting(calls, foods("kimchi stew")));
+        cache.get(" kimchi stew ", 1, 10, counting(calls, foods("kimchi stew")));
+        assertEquals(1, calls.get());
+
+        cache.get("kimchi stew", 2, 10, counting(calls, foods("kimchi stew")));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void failedLoadServesStaleCopyUntilStaleTtl() {
+        FoodSearchCache cache = cache(10, 60, 600);
+        cache.get("김치", 1, 10, () -> foods("김치찌개"));
+
+        advanceSeconds(120);
+        List<FoodDTO> stale = cache.get("김치", 1, 10, failing());
+        assertEquals(1, stale.size());
+        assertEquals("김치찌개", stale.get(0).getFoodNm());
+        assertTrue(stale.get(0).getStale());
+
+        advanceSeconds(480);
+        assertThrows(IllegalStateException.class, () -> cache.get("김치", 1, 10, failing()));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        FoodSearchCache cache = cache(10, 60, 600);
+        assertThrows(IllegalStateException.class, () -> cache.get("김치", 1, 10, failing()));
+
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("김치", 1, 10, counting(calls, foods("김치찌개")));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void overflowEvictsLeastRecentlyUsed() {
+        FoodSearchCache cache = cache(2, 60, 600);
+        FoodSearchCache.Key a = FoodSearchCache.Key.of("a", 1, 10);
+        FoodSearchCache.Key b = FoodSearchCache.Key.of("b", 1, 10);
+        FoodSearchCache.Key c = FoodSearchCache.Key.of("c", 1, 10);
+        List<FoodDTO> aItems = foods("a");
+        cache.put(a, aItems);
+        cache.put(b, foods("b"));
+
+        // a 를 읽어 최근 사용으로 올리면 b 가 먼저 밀려남
+        assertSame(aItems, cache.getIfPresent(a));
+        cache.put(c, foods("c"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getIfPresent(a));
+        assertNull(cache.getIfPresent(b));
+        assertNotNull(cache.getIfPresent(c));
+        assertEquals(1, cache.evictionCount());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.config.FoodClient;
+import com.example.health_care.dto.FoodDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FoodServiceParallelSearchTest {
+
+    // "김치 찌개" → 김치 찌개 / 김치찌개 / 찌개 김치 / 찌개김치
+    private static final String QUERY = "김치 찌개";
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+    private final CountDownLatch slowRelease = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        pool.shutdownNow();
+    }
+
+    private static String page(String resultCode, String foodName) {
+        return "{\"resultCode\":\"" + resultCode + "\",\"totalCount\":1,"
+                + "\"items\":[{\"foodNm\":\"" + foodName + "\",\"enerc\":100}]}";
+    }
+
+    private static FoodService service(Function<String, String> responses, Executor executor, long deadlineMs) {
+        FoodClient client = new FoodClient(null, null, "", "", "key", "") {
+            @Override
+            public <T> T searchByName(String name, int page, int perPage, BodyReader<T> reader) {
+                try {
+                    return reader.read(new ByteArrayInputStream(responses.apply(name).getBytes(StandardCharsets.UTF_8)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return new FoodService(client,
+                new FoodResponseParser(),
+                new FoodSearchCache(new SimpleMeterRegistry(), 100, 60, 600),
+                new FoodLocalStore(null, null, false, 200),
+                new FoodNameIndex(null, false, 0.5),
+                new FoodAutocomplete(null, 10, 1000),
+                executor,
+                true,
+                deadlineMs,
+                0);
+    }
+
+    private static Set<String> namesOf(List<FoodDTO> foods) {
+        return Set.copyOf(foods.stream().map(FoodDTO::getFoodNm).toList());
+    }
+
+    private void awaitSlow() {
+        try {
+            slowRelease.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void variantsRunConcurrently() {
+        // 네 키워드가 모두 동시에 진행 중이어야 각각 응답할 수 있음
+        CountDownLatch allStarted = new CountDownLatch(4);
+        FoodService service = service(name -> {
+            allStarted.countDown();
+            try {
+                allStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return page("00", name + " 결과");
+        }, pool, 3_000);
+
+        List<FoodDTO> result = service.searchSimple(QUERY, 1, 10);
+
+        assertEquals(Set.of("김치 찌개 결과", "김치찌개 결과", "찌개 김치 결과", "찌개김치 결과"), namesOf(result));
+    }
+
+    @Test
+    void deadlineReturnsWhatHasArrived() {
+        FoodService service = service(name -> {
+            if (name.startsWith("찌개")) {
+                awaitSlow();
+            }
+            return page("00", name + " 결과");
+        }, pool, 200);
+
+        long start = System.nanoTime();
+        List<FoodDTO> result = service.searchSimple(QUERY, 1, 10);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(Set.of("김치 찌개 결과", "김치찌개 결과"), namesOf(result));
+        assertTrue(elapsedMs < 2_000, "took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void saturatedPoolSkipsRemainingVariants() {
+        AtomicInteger accepted = new AtomicInteger();
+        Executor oneSlot = task -> {
+            if (accepted.getAndIncrement() > 0) {
+                throw new RejectedExecutionException("full");
+            }
+            pool.execute(task);
+        };
+        FoodService service = service(name -> page("00", name + " 결과"), oneSlot, 3_000);
+
+        List<FoodDTO> result = service.searchSimple(QUERY, 1, 10);
+
+        assertEquals(Set.of("김치 찌개 결과"), namesOf(result));
+    }
+
+    @Test
+    void failedVariantDoesNotFailSearch() {
+        FoodService service = service(name -> page(name.contains(" ") ? "99" : "00", name + " 결과"), pool, 3_000);
+
+        List<FoodDTO> result = service.searchSimple(QUERY, 1, 10);
+
+        assertEquals(Set.of("김치찌개 결과", "찌개김치 결과"), namesOf(result));
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.entity.RefreshTokenEntity;
+import com.example.health_care.repository.RefreshTokenRepository;
+import com.example.health_care.security.TokenDigests;
+
+class RefreshTokenServiceTest {
+
+    private final InMemoryRefreshTokens store = new InMemoryRefreshTokens();
+    private final RefreshTokenService service = new RefreshTokenService(store.repository(), null);
+
+    @Test
+    void rotateIssuesNewTokenInSameFamilyAndMarksOldOneRotated() {
+        RefreshTokenService.Issued first = service.issue("alice");
+
+        RefreshTokenService.Issued second = service.rotate(first.token()).orElseThrow();
+
+        assertNotEquals(first.token(), second.token());
+        assertEquals("alice", second.userId());
+        assertEquals(store.row(first.token()).getFamilyId(), store.row(second.token()).getFamilyId());
+        assertTrue(store.row(first.token()).isRotated());
+        assertFalse(store.row(second.token()).isRotated());
+    }
+
+    @Test
+    void familyKeepsOnlyCurrentAndPreviousToken() {
+        String token = service.issue("alice").token();
+        for (int i = 0; i < 5; i++) {
+            token = service.rotate(token).orElseThrow().token();
+        }
+
+        assertEquals(2, store.familyOf(token).size());
+        assertTrue(service.rotate(token).isPresent());
+    }
+
+    @Test
+    void replayingRotatedTokenRevokesWholeFamily() {
+        RefreshTokenService.Issued first = service.issue("alice");
+        RefreshTokenService.Issued second = service.rotate(first.token()).orElseThrow();
+
+        assertTrue(service.rotate(first.token()).isEmpty());
+
+        // 탈취 의심 → 정상 사용자가 가진 최신 토큰도 함께 폐기
+        assertTrue(service.rotate(second.token()).isEmpty());
+        assertTrue(store.rows.isEmpty());
+    }
+
+    @Test
+    void concurrentRotationWithSameTokenRevokesWholeFamily() {
+        RefreshTokenService.Issued first = service.issue("alice");
+        // 조회와 교체 표시 사이에 같은 토큰으로 다른 요청이 먼저 교체를 끝낸 상황
+        AtomicReference<RefreshTokenService.Issued> winner = new AtomicReference<>();
+        store.beforeMarkRotated = () -> winner.set(service.rotate(first.token()).orElseThrow());
+
+        assertTrue(service.rotate(first.token()).isEmpty());
+
+        assertTrue(service.rotate(winner.get().token()).isEmpty());
+        assertTrue(store.rows.isEmpty());
+    }
+
+    @Test
+    void expiredTokenIsRejectedAndFamilyRemoved() {
+        RefreshTokenService.Issued issued = service.issue("alice");
+        store.row(issued.token()).setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+        assertTrue(service.rotate(issued.token()).isEmpty());
+        assertTrue(store.rows.isEmpty());
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        service.issue("alice");
+
+        assertTrue(service.rotate("not-a-token").isEmpty());
+        assertEquals(1, store.rows.size());
+    }
+
+    @Test
+    void revokeRemovesOnlyThatLogin() {
+        RefreshTokenService.Issued phone = service.issue("alice");
+        RefreshTokenService.Issued laptop = service.issue("alice");
+        RefreshTokenService.Issued phoneNext = service.rotate(phone.token()).orElseThrow();
+
+        service.revoke(phoneNext.token());
+
+        assertTrue(service.rotate(phoneNext.token()).isEmpty());
+        assertTrue(service.rotate(laptop.token()).isPresent());
+    }
+
+    // JPA 없이 refresh_tokens 테이블을 흉내 내는 저장소 (서비스가 쓰는 메서드만 구현)
+    private static final class InMemoryRefreshTokens implements InvocationHandler {
+
+        private final Map<Long, RefreshTokenEntity> rows = new LinkedHashMap<>();
+        private long nextId = 1;
+        private Runnable beforeMarkRotated;
+
+        RefreshTokenRepository repository() {
+            return (RefreshTokenRepository) Proxy.newProxyInstance(RefreshTokenRepository.class.getClassLoader(),
+                    new Class<?>[] { RefreshTokenRepository.class }, this);
+        }
+
+        RefreshTokenEntity row(String token) {
+            String hash = TokenDigests.sha256Hex(token);
+            return rows.values().stream().filter(r -> r.getTokenHash().equals(hash)).findFirst().orElseThrow();
+        }
+
+        List<RefreshTokenEntity> familyOf(String token) {
+            String familyId = row(token).getFamilyId();
+            return rows.values().stream().filter(r -> r.getFamilyId().equals(familyId)).toList();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "findByTokenHash" -> rows.values().stream()
+                        .filter(r -> r.getTokenHash().equals(args[0]))
+                        .findFirst()
+                        .map(InMemoryRefreshTokens::detached);
+                case "save" -> {
+                    RefreshTokenEntity e = (RefreshTokenEntity) args[0];
+                    e.setId(nextId++);
+                    rows.put(e.getId(), e);
+                    yield e;
+                }
+                case "markRotated" -> {
+                    if (beforeMarkRotated != null) {
+                        Runnable hook = beforeMarkRotated;
+                        beforeMarkRotated = null;
+                        hook.run();
+                    }
+                    RefreshTokenEntity e = rows.get((Long) args[0]);
+                    if (e == null || e.isRotated()) {
+                        yield 0;
+                    }
+                    e.setRotated(true);
+                    yield 1;
+                }
+                case "deleteFamily" -> deleteIf(r -> r.getFamilyId().equals(args[0]));
+                case "deleteRotatedInFamily" -> deleteIf(r -> r.getFamilyId().equals(args[0]) && r.isRotated());
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        }
+
+        private int deleteIf(Predicate<RefreshTokenEntity> filter) {
+            int before = rows.size();
+            rows.values().removeIf(filter);
+            return before - rows.size();
+        }
+
+        // 조회 결과는 이후 update 와 무관한 스냅숏 (clearAutomatically 와 같은 효과)
+        private static RefreshTokenEntity detached(RefreshTokenEntity e) {
+            return RefreshTokenEntity.builder()
+                    .id(e.getId())
+                    .tokenHash(e.getTokenHash())
+                    .familyId(e.getFamilyId())
+                    .userId(e.getUserId())
+                    .expiresAt(e.getExpiresAt())
+                    .createdAt(e.getCreatedAt())
+                    .rotated(e.isRotated())
+                    .build();
+        }
+    }
+}
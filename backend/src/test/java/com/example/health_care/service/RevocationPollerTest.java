@@ -0,0 +1,180 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.entity.BlacklistedTokenEntity;
+import com.example.health_care.repository.BlacklistedTokenRepository;
+import com.example.health_care.security.TokenDigests;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RevocationPollerTest {
+
+    private static final long OVERLAP_MS = 5_000;
+    private static final long MAX_STALENESS_MS = 10_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final TokenRevocationIndex index = new TokenRevocationIndex(new SimpleMeterRegistry(), 10_000, 0.01);
+
+    // 커밋된 폐기 행 (id 순서와 커밋 순서가 다를 수 있음)
+    private final List<BlacklistedTokenEntity> committed = new ArrayList<>();
+    // 조회할 때 넘긴 "이 id 이후" 값
+    private final List<Long> queriedAfter = new ArrayList<>();
+    private boolean failing;
+
+    private final BlacklistedTokenRepository repository = (BlacklistedTokenRepository) Proxy.newProxyInstance(
+            BlacklistedTokenRepository.class.getClassLoader(), new Class<?>[] { BlacklistedTokenRepository.class },
+            (proxy, method, args) -> {
+                if (!method.getName().equals("findTop500ByIdGreaterThanOrderByIdAsc")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                if (failing) {
+                    throw new IllegalStateException("db down");
+                }
+                long after = (Long) args[0];
+                queriedAfter.add(after);
+                return committed.stream()
+                        .filter(e -> e.getId() > after)
+                        .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                        .limit(500)
+                        .toList();
+            });
+
+    private RevocationPoller poller(boolean enabled) {
+        return new RevocationPoller(repository, index, new SimpleMeterRegistry(), enabled, OVERLAP_MS,
+                MAX_STALENESS_MS, now::get);
+    }
+
+    private void commit(long id) {
+        LocalDateTime created = LocalDateTime.now();
+        committed.add(BlacklistedTokenEntity.builder()
+                .id(id)
+                .tokenHash(digest(id))
+                .userId("user" + id)
+                .createdAt(created)
+                .expiresAt(created.plusHours(1))
+                .build());
+    }
+
+    private static String digest(long id) {
+        return TokenDigests.sha256Hex("token-" + id);
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(millis);
+    }
+
+    @Test
+    void doesNothingUntilStarted() {
+        RevocationPoller poller = poller(true);
+        commit(1);
+
+        poller.poll();
+
+        assertTrue(queriedAfter.isEmpty());
+        assertFalse(poller.isFresh());
+    }
+
+    @Test
+    void readsRowsAfterStartingWatermark() {
+        RevocationPoller poller = poller(true);
+        poller.start(10);
+        commit(11);
+        commit(12);
+
+        advance(1_000);
+        poller.poll();
+
+        assertEquals(List.of(10L), queriedAfter);
+        assertTrue(index.isRevoked(digest(11)));
+        assertTrue(index.isRevoked(digest(12)));
+    }
+
+    @Test
+    void rereadsOverlapWindowSoLateCommitsAreNotMissed() {
+        RevocationPoller poller = poller(true);
+        poller.start(10);
+        commit(12);
+        advance(1_000);
+        poller.poll();
+
+        // 11 번은 12 번보다 먼저 채번됐지만 늦게 커밋됨
+        commit(11);
+        advance(1_000);
+        poller.poll();
+
+        assertEquals(List.of(10L, 10L), queriedAfter);
+        assertTrue(index.isRevoked(digest(11)));
+    }
+
+    @Test
+    void watermarkAdvancesOnceOverlapHasPassed() {
+        RevocationPoller poller = poller(true);
+        poller.start(10);
+        commit(11);
+        for (int i = 0; i < 7; i++) {
+            advance(1_000);
+            poller.poll();
+        }
+
+        // 시작(0s) 후 1s 에 11 번을 봤으므로, 6s 부터는 11 이후만 조회
+        assertEquals(List.of(10L, 10L, 10L, 10L, 10L, 11L, 11L), queriedAfter);
+    }
+
+    @Test
+    void pagesThroughLargeBacklog() {
+        RevocationPoller poller = poller(true);
+        poller.start(0);
+        for (long id = 1; id <= 1_200; id++) {
+            commit(id);
+        }
+
+        advance(1_000);
+        poller.poll();
+
+        assertEquals(List.of(0L, 500L, 1_000L), queriedAfter);
+        assertEquals(1_200, index.size());
+    }
+
+    @Test
+    void failedPollsLetIndexGoStale() {
+        RevocationPoller poller = poller(true);
+        poller.start(10);
+        assertTrue(poller.isFresh());
+
+        failing = true;
+        advance(MAX_STALENESS_MS);
+        poller.poll();
+        assertTrue(poller.isFresh());
+
+        advance(1);
+        poller.poll();
+        assertFalse(poller.isFresh());
+
+        failing = false;
+        poller.poll();
+        assertTrue(poller.isFresh());
+    }
+
+    @Test
+    void disabledPollerIsAlwaysFreshAndNeverQueries() {
+        RevocationPoller poller = poller(false);
+        poller.start(10);
+        commit(11);
+
+        poller.poll();
+
+        assertTrue(poller.isFresh());
+        assertTrue(queriedAfter.isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    // leader 가 작업 중일 때 나머지 호출이 모두 합류할 때까지 대기
+    private static void awaitFollowers(SingleFlight<?, ?> flight, int followers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flight.coalescedCount() < followers) {
+            assertTrue(System.nanoTime() < deadline, "followers did not join");
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(pool.submit(() -> flight.execute("김치", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return result;
+                })));
+            }
+            awaitFollowers(flight, CALLERS - 1);
+            release.countDown();
+
+            for (Future<Object> f : futures) {
+                assertSame(result, f.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+        assertEquals(CALLERS - 1, flight.coalescedCount());
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void followersReceiveLeadersException() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(pool.submit(() -> flight.execute("김치", () -> {
+                    await(release);
+                    throw new IllegalStateException("upstream down");
+                })));
+            }
+            awaitFollowers(flight, CALLERS - 1);
+            release.countDown();
+
+            for (Future<Object> f : futures) {
+                try {
+                    f.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+                    continue;
+                }
+                throw new AssertionError("expected failure");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    void finishedKeyRunsAgainAndOtherKeysDoNotWait() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        int first = flight.execute("a", executions::incrementAndGet);
+        int second = flight.execute("a", executions::incrementAndGet);
+        // leader 안에서 다른 키를 호출해도 합류하지 않고 바로 실행
+        int nested = flight.execute("b", () -> flight.execute("c", executions::incrementAndGet) + 1);
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(4, nested);
+        assertEquals(0, flight.coalescedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.health_care.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.health_care.security.TokenDigests;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenRevocationIndexTest {
+
+    private static String digest(String token) {
+        return TokenDigests.sha256Hex(token);
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndStaysNearTargetRate() {
+        int n = 20_000;
+        double fpp = 0.01;
+        TokenRevocationIndex.BloomFilter bloom = new TokenRevocationIndex.BloomFilter(n, fpp);
+        for (int i = 0; i < n; i++) {
+            bloom.add(digest("revoked-" + i));
+        }
+
+        for (int i = 0; i < n; i++) {
+            assertTrue(bloom.mightContain(digest("revoked-" + i)), "false negative at " + i);
+        }
+        int falsePositives = 0;
+        int probes = 50_000;
+        for (int i = 0; i < probes; i++) {
+            if (bloom.mightContain(digest("active-" + i))) {
+                falsePositives++;
+            }
+        }
+        // 목표 1% → 넉넉히 2% 이하
+        assertTrue(falsePositives < probes * fpp * 2, "false positives " + falsePositives);
+    }
+
+    @Test
+    void revokedUntilExpiry() {
+        TokenRevocationIndex index = new TokenRevocationIndex(new SimpleMeterRegistry(), 1000, 0.01);
+        long now = System.currentTimeMillis();
+        index.add(digest("a"), now + 60_000);
+        index.add(digest("gone"), now - 1);
+
+        assertTrue(index.isRevoked(digest("a")));
+        assertFalse(index.isRevoked(digest("b")));
+        assertFalse(index.isRevoked(digest("gone")));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void removeExpiredRebuildsFilterWithRemainingTokens() throws InterruptedException {
+        TokenRevocationIndex index = new TokenRevocationIndex(new SimpleMeterRegistry(), 10, 0.01);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            index.add(digest("long-" + i), now + 60_000);
+        }
+        index.add(digest("short"), now + 20);
+        Thread.sleep(50);
+
+        assertEquals(1, index.removeExpired());
+        assertEquals(100, index.size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(index.isRevoked(digest("long-" + i)));
+        }
+        assertFalse(index.isRevoked(digest("short")));
+    }
+}
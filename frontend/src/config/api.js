@@ -1,5 +1,6 @@
 import { Platform, NativeModules } from 'react-native'
 import Constants from 'expo-constants'
+import * as SecureStore from 'expo-secure-store'
 
 function isPrivateIp(h) {
   return !!h && /^(10\.|192\.168\.|172\.(1[6-9]|2[0-9]|3[0-1])\.)/.test(h)
@@ -80,6 +81,40 @@ export function clearAuthToken() {
   CURRENT_TOKEN = null
 }
 
+// 접근 토큰 만료(401) 시 재발급 토큰으로 한 번만 갱신 (동시 요청은 같은 갱신을 기다림)
+let REFRESHING = null
+
+export async function refreshAuthToken() {
+  if (!REFRESHING) {
+    REFRESHING = (async () => {
+      try {
+        const refreshToken = await SecureStore.getItemAsync('refreshToken')
+        if (!refreshToken) return false
+        const res = await fetch(join(ORIGIN, '/api/auth/refresh'), {
+          method: 'POST',
+          headers: { Accept: 'application/json', 'Content-Type': 'application/json' },
+          body: JSON.stringify({ refreshToken }),
+        })
+        if (!res.ok) {
+          if (res.status === 401) await SecureStore.deleteItemAsync('refreshToken')
+          return false
+        }
+        const j = await res.json()
+        const token = `${j.tokenType} ${j.token}`
+        await SecureStore.setItemAsync('accessToken', token)
+        if (j.refreshToken) await SecureStore.setItemAsync('refreshToken', j.refreshToken)
+        setAuthToken(token)
+        return true
+      } catch {
+        return false
+      } finally {
+        REFRESHING = null
+      }
+    })()
+  }
+  return REFRESHING
+}
+
 function withAuthHeaders(customHeaders = {}) {
   const auth = CURRENT_TOKEN ? { Authorization: CURRENT_TOKEN } : {}
   return { ...customHeaders, ...auth }
@@ -93,12 +128,14 @@ export async function apiGet(path, init) {
   const ctrl = new AbortController()
   const to = setTimeout(() => ctrl.abort(), 20000)
   try {
-    const res = await fetch(url, {
+    const send = () => fetch(url, {
       ...(init || {}),
       method: 'GET',
       signal: ctrl.signal,
       headers: withAuthHeaders(init?.headers),
     })
+    let res = await send()
+    if (res.status === 401 && CURRENT_TOKEN && await refreshAuthToken()) res = await send()
     const text = await res.text()
     if (__DEV__) console.log('GET', url, '->', res.status, text)
     if (!res.ok) throw new Error(`HTTP ${res.status} ${text}`)
@@ -114,13 +151,15 @@ export async function apiPost(path, body, init) {
   const to = setTimeout(() => ctrl.abort(), 25000)
   try {
     const baseHeaders = { Accept: 'application/json', 'Content-Type': 'application/json' }
-    const res = await fetch(url, {
+    const send = () => fetch(url, {
       ...(init || {}),
       method: 'POST',
       headers: withAuthHeaders({ ...baseHeaders, ...(init?.headers || {}) }),
       body: JSON.stringify(body),
       signal: ctrl.signal,
     })
+    let res = await send()
+    if (res.status === 401 && CURRENT_TOKEN && await refreshAuthToken()) res = await send()
     const text = await res.text()
     if (__DEV__) console.log('POST', url, '->', res.status, text)
     if (!res.ok) throw new Error(`HTTP ${res.status} ${text}`)
@@ -69,6 +69,7 @@ export default function AuthProvider({ children }) {
       const res = await apiPost('/api/auth/login', { id, password })
       const token = `${res.tokenType} ${res.token}`
       await SecureStore.setItemAsync('accessToken', token)
+      if (res.refreshToken) await SecureStore.setItemAsync('refreshToken', res.refreshToken)
       await wipeLegacyTokens()
       setAuthToken(token)
       const userId = res.id ?? parseJwt(token).sub ?? id
@@ -88,8 +89,11 @@ export default function AuthProvider({ children }) {
   }
 
   const logout = async () => {
-    try { await apiPost('/api/auth/logout', {}) } catch {}
+    let refreshToken = null
+    try { refreshToken = await SecureStore.getItemAsync('refreshToken') } catch {}
+    try { await apiPost('/api/auth/logout', refreshToken ? { refreshToken } : {}) } catch {}
     try { await SecureStore.deleteItemAsync('accessToken') } catch {}
+    try { await SecureStore.deleteItemAsync('refreshToken') } catch {}
     await wipeLegacyTokens()
     try { await AsyncStorage.removeItem('last_user_id') } catch {}
     clearAuthToken()
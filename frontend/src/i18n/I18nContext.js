@@ -26,7 +26,7 @@ const DICT = {
     HEIGHT_CM:'키(cm)', AGE:'나이', GENDER:'성별', MALE:'남성', FEMALE:'여성', GENDER_MALE: '남성', GENDER_FEMALE: '여성',
     TARGET_WEIGHT:'목표 체중(kg)', TARGET_CALORIES:'목표 칼로리(kcal)',
 
-    DARK:'다크', LIGHT:'라이트', PROFILE:'프로필', SETTINGS:'설정', RANKING:'랭킹', QUEST:'퀘스트',
+    DARK:'다크', LIGHT:'라이트', PROFILE:'프로필', SETTINGS:'설정', RANKING:'랭킹', RANKING_STREAK:'연속 출석', RANKING_COINS:'코인', RANKING_ME:'내 순위', QUEST:'퀘스트',
 
     FOOD_LOG:'식단 기록', AT_A_GLANCE:'한눈에', HOME_MEAL:'식단 기록', HOME_DATA:'한눈에',
     HOME_OVERALL:'한눈에',
@@ -90,7 +90,7 @@ const DICT = {
     PROFILE_INFO:'Profile', WEIGHT:'Weight (kg)', HEIGHT:'Height (cm)', WEIGHT_KG:'Weight (kg)', HEIGHT_CM:'Height (cm)',
     AGE:'Age', GENDER:'Gender', GENDER_MALE: 'Male', GENDER_FEMALE: 'Female', MALE:'Male', FEMALE:'Female', TARGET_WEIGHT:'Target weight (kg)', TARGET_CALORIES:'Target calories (kcal)',
 
-    DARK:'Dark', LIGHT:'Light', PROFILE:'Profile', SETTINGS:'Setting', RANKING:'Ranking', QUEST:'Quest',
+    DARK:'Dark', LIGHT:'Light', PROFILE:'Profile', SETTINGS:'Setting', RANKING:'Ranking', RANKING_STREAK:'Streak', RANKING_COINS:'Coins', RANKING_ME:'My rank', QUEST:'Quest',
 
     FOOD_LOG:'Food log', AT_A_GLANCE:'Overview', HOME_MEAL:'Food log', HOME_DATA:'Overview', HOME_OVERALL:'Overview',
 
@@ -142,7 +142,7 @@ const DICT = {
     WEIGHT:'体重(kg)', HEIGHT:'身長(cm)', WEIGHT_KG:'体重(kg)', HEIGHT_CM:'身長(cm)', AGE:'年齢', GENDER:'性別', GENDER_MALE: '男性', GENDER_FEMALE: '女性',
     MALE:'男性', FEMALE:'女性', TARGET_WEIGHT:'目標体重(kg)', TARGET_CALORIES:'目標カロリー(kcal)',
 
-    DARK:'ダーク', LIGHT:'ライト', PROFILE:'プロフィール', SETTINGS:'設定', RANKING:'ランキング', QUEST:'クエスト',
+    DARK:'ダーク', LIGHT:'ライト', PROFILE:'プロフィール', SETTINGS:'設定', RANKING:'ランキング', RANKING_STREAK:'連続出席', RANKING_COINS:'コイン', RANKING_ME:'自分の順位', QUEST:'クエスト',
 
     FOOD_LOG:'食事記録', AT_A_GLANCE:'ひと目で', HOME_MEAL:'食事記録', HOME_DATA:'ひと目で', HOME_OVERALL:'概要',
 
@@ -199,7 +199,7 @@ const DICT = {
     WEIGHT:'体重(kg)', HEIGHT:'身高(cm)', WEIGHT_KG:'体重(kg)', HEIGHT_CM:'身高(cm)', AGE:'年龄', GENDER:'性别', GENDER_MALE: '男性', GENDER_FEMALE: '女性',
     MALE:'男', FEMALE:'女', TARGET_WEIGHT:'目标体重(kg)', TARGET_CALORIES:'目标卡路里(kcal)',
 
-    DARK:'深色', LIGHT:'浅色', PROFILE:'个人资料', SETTINGS:'设置', RANKING:'排行榜', QUEST:'任务',
+    DARK:'深色', LIGHT:'浅色', PROFILE:'个人资料', SETTINGS:'设置', RANKING:'排行榜', RANKING_STREAK:'连续签到', RANKING_COINS:'金币', RANKING_ME:'我的排名', QUEST:'任务',
 
     FOOD_LOG:'饮食记录', AT_A_GLANCE:'一目了然', HOME_MEAL:'饮食记录', HOME_DATA:'一目了然', HOME_OVERALL:'总览',
 
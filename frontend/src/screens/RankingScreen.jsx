@@ -8,6 +8,7 @@ import {
   RefreshControl,
   StyleSheet,
   ImageBackground,
+  Pressable,
 } from 'react-native';
 import { useSafeAreaInsets } from 'react-native-safe-area-context';
 import { useFonts } from 'expo-font';
@@ -40,6 +41,9 @@ export default function RankingScreen() {
   const [refreshing, setRefreshing] = useState(false);
   const [items, setItems] = useState([]);
   const [error, setError] = useState('');
+  // 출석 랭킹 (streak | coins), 서버 응답이 없으면 기존 사용자 목록으로 표시
+  const [by, setBy] = useState('streak');
+  const [me, setMe] = useState(null);
 
   // 필요시 다른 후보 엔드포인트 추가 가능
   const candidates = ['/ranking'];
@@ -96,21 +100,38 @@ export default function RankingScreen() {
     return [];
   }, []);
 
+  const fetchAttendanceRanking = useCallback(async () => {
+    try {
+      const res = await apiGet(`/ranking/attendance?by=${by}&limit=50&around=2`);
+      if (!Array.isArray(res?.top)) return null;
+      return res;
+    } catch {
+      return null;
+    }
+  }, [by]);
+
   const load = useCallback(async () => {
     setLoading(true);
     setError('');
     try {
+      const ranking = await fetchAttendanceRanking();
+      if (ranking && ranking.top.length) {
+        setItems(ranking.top.map((x) => ({ id: x.id, rank: x.rank, score: x.score })));
+        setMe(ranking.me || null);
+        return;
+      }
+      setMe(null);
       const ids = await fetchAllUsers();
       const uniq = Array.from(new Set(ids));
       uniq.sort((a, b) => a.localeCompare(b, undefined, { sensitivity: 'base' }));
-      setItems(uniq);
+      setItems(uniq.map((id, i) => ({ id, rank: i + 1, score: null })));
       if (uniq.length === 0) setError(t('RANKING_EMPTY') || '표시할 사용자가 없습니다.');
     } catch (e) {
       setError(e?.message || t('LIST_FETCH_FAIL') || '목록을 불러오지 못했습니다.');
     } finally {
       setLoading(false);
     }
-  }, [fetchAllUsers, t]);
+  }, [fetchAttendanceRanking, fetchAllUsers, t]);
 
   const onRefresh = useCallback(async () => {
     setRefreshing(true);
@@ -146,16 +167,41 @@ export default function RankingScreen() {
       <Text style={[styles.screenTitle, { top: insets.top + 8, color: theme.text }]}>{t('RANKING')}</Text>
       <View style={[styles.wrap, { paddingTop: contentTop }]}>
         <View style={[styles.card, styles.lifted, { backgroundColor: theme.cardBg, borderColor: theme.cardBorder }]}>
+          <View style={styles.tabs}>
+            {['streak', 'coins'].map((k) => (
+              <Pressable
+                key={k}
+                onPress={() => setBy(k)}
+                style={[styles.tab, { borderColor: theme.cardBorder }, by === k && { backgroundColor: theme.cardBorder }]}
+              >
+                <Text style={[styles.tabText, { color: theme.text }]}>
+                  {t(k === 'streak' ? 'RANKING_STREAK' : 'RANKING_COINS')}
+                </Text>
+              </Pressable>
+            ))}
+          </View>
+
+          {me ? (
+            <View style={[styles.row, { borderColor: theme.cardBorder }]}>
+              <Text style={[styles.rank, { color: '#ef4444' }]}>{me.rank}</Text>
+              <Text style={[styles.email, { color: theme.text }]}>{t('RANKING_ME')}</Text>
+              <Text style={[styles.score, { color: theme.text }]}>{me.score}</Text>
+            </View>
+          ) : null}
+
           {error ? <Text style={[styles.error, { color: '#ef4444' }]}>{error}</Text> : null}
 
           <FlatList
             data={items}
-            keyExtractor={(item, idx) => `${item}-${idx}`}
+            keyExtractor={(item, idx) => `${item.id}-${idx}`}
             refreshControl={<RefreshControl refreshing={refreshing} onRefresh={onRefresh} />}
             renderItem={({ item, index }) => (
               <View style={[styles.row, { borderColor: theme.cardBorder }]}>
-                <Text style={[styles.rank, { color: '#ef4444' }]}>{index + 1}</Text>
-                <Text style={[styles.email, { color: theme.text }]}>{maskEmail(item)}</Text>
+                <Text style={[styles.rank, { color: '#ef4444' }]}>{item.rank ?? index + 1}</Text>
+                <Text style={[styles.email, { color: theme.text }]}>{maskEmail(item.id)}</Text>
+                {item.score != null ? (
+                  <Text style={[styles.score, { color: theme.text }]}>{item.score}</Text>
+                ) : null}
               </View>
             )}
             ListEmptyComponent={
@@ -201,6 +247,10 @@ const styles = StyleSheet.create({
   row: { flexDirection: 'row', alignItems: 'center', paddingVertical: 12, borderBottomWidth: 1 },
   rank: { width: 40, textAlign: 'center', fontFamily: FONT, fontSize: 18 },
   email: { flex: 1, fontFamily: FONT, fontSize: 16 },
+  score: { minWidth: 48, textAlign: 'right', fontFamily: FONT, fontSize: 16 },
+  tabs: { flexDirection: 'row', gap: 8 },
+  tab: { flex: 1, borderWidth: 1, borderRadius: 12, paddingVertical: 8, alignItems: 'center' },
+  tabText: { fontFamily: FONT, fontSize: 14 },
   empty: { fontFamily: FONT, textAlign: 'center' },
   error: { fontFamily: FONT, textAlign: 'center', marginBottom: 8 },
 });
@@ -12,6 +12,7 @@ const K = {
   todayCoins: '@att/todayCoins',
   syncedFirst: '@att/syncedFirstOnce',
   syncedStatus: '@att/syncedStatusOnce',
+  pending: '@att/pending', // + '/<계정>': 서버 반영 못 한 출석일 ["2025-09-01", ...]
   // per-month: @att/log/2025-09 => [1,5,9,...]
 };
 
@@ -152,21 +153,50 @@ async function addToMonthLog(dateStr) {
   } catch {}
 }
 
-// ---------- 체크인(서버 우선: POST /checkin) ----------
+// 밀린 출석일은 계정별로 (같은 기기에서 다른 계정으로 로그인해도 섞이지 않음)
+const pendingKey = (email) => `${K.pending}/${email}`;
+async function readPending(email) {
+  if (!email) return [];
+  try {
+    const raw = await AsyncStorage.getItem(pendingKey(email));
+    const arr = raw ? JSON.parse(raw) : [];
+    // 서버는 최근 attendance.sync.max-days(366)일만 받음 → 오래된 날짜는 버림
+    const oldest = dayKey(new Date(Date.now() - 365 * 86400000));
+    return Array.isArray(arr) ? arr.filter((d) => typeof d === 'string' && d >= oldest) : [];
+  } catch {
+    return [];
+  }
+}
+async function addPending(email, dateStr) {
+  if (!email) return; // 계정을 모르면 보관하지 않음
+  const arr = await readPending(email);
+  if (!arr.includes(dateStr)) {
+    arr.push(dateStr);
+    arr.sort();
+    await AsyncStorage.setItem(pendingKey(email), JSON.stringify(arr.slice(-300)));
+  }
+}
+
+// ---------- 체크인(서버 우선: POST /checkin, 밀린 날짜가 있으면 POST /sync 로 한 번에) ----------
 export async function checkInToday() {
   const today = dayKey();
+  const email = await getEmail();
   // 서버 기록 시도
   try {
-    const email = await getEmail();
-    const body = email ? { date: today, email } : { date: today };
-    const r = await fetch(`${ORIGIN}/api/attendance/checkin`, {
+    const pending = await readPending(email);
+    const dates = pending.includes(today) ? pending : [...pending, today];
+    const path = pending.length ? 'sync' : 'checkin';
+    // checkin/sync 모두 로그인 사용자 기준이라 email 을 보내지 않음
+    const body = pending.length ? { dates } : { date: today };
+    const r = await fetch(`${ORIGIN}/api/attendance/${path}`, {
       method: 'POST',
       headers: { 'Content-Type': 'application/json', Accept: 'application/json', ...(await authHeader()) },
       body: JSON.stringify(body),
     });
     if (r.ok) {
       const j = await r.json().catch(() => null);
-      if (j) {
+      // sync 는 synced 가 있을 때만 반영된 것 (unknown_user 등은 실패로 보고 큐 유지)
+      if (j && (!pending.length || j.synced != null)) {
         // 상태 반영
         const cur = await readMany([K.first, K.last, K.total, K.streak, K.coins, K.todayCoins]);
         const data = {};
@@ -178,12 +208,14 @@ export async function checkInToday() {
         data[K.todayCoins] = Number(j.todayCoins ?? 0);
         await writeMany({ ...cur, ...data });
         await addToMonthLog(today);
+        if (pending.length) await AsyncStorage.removeItem(pendingKey(email));
         return getStatus();
       }
     }
   } catch {}
 
-  // 서버 실패 시: 보수적 로컬 갱신 (첫날은 서버 동기화에서만 결정)
+  // 서버 실패 시: 보수적 로컬 갱신 (첫날은 서버 동기화에서만 결정), 다음 체크인 때 일괄 반영
+  await addPending(email, today);
   await syncFirstFromServer();
   const m = await readMany([K.first, K.last, K.total, K.streak, K.coins]);
   const last = m[K.last];